@@ -0,0 +1,172 @@
+package com.example;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Biz/Core 가이드 워크북 렌더링 + 저장 벤치마크 (PSI 추출 제외)
+ * 가상 API 정보를 시트로 그리고 .xlsx 로 직렬화하는 전체 경로를 측정한다. 출력은 크기만 세고 버린다.
+ *
+ * - POI: 실제 생성과 같은 방식 (GuideExportOptions 기본값 AUTO, 메소드 수에 따라 XSSF / 스트리밍 워크북)
+ * - DIRECT: {@link SpreadsheetMLWriter} 로 시트 XML 직접 작성
+ * - COMPACT: 모든 API 를 한 시트에 행 묶음으로 작성 ({@link CompactBizSheetRenderer}, 스트리밍 워크북)
+ * - TEMPLATE: -Dnexgen.guide.template=true 로 생성하는 방식 (스트리밍 임계값 이하에서만 {@link GuideTemplate} 골격 시트 복제, 그 이상은 POI 와 동일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class GuideWorkbookBenchmark {
+
+    public enum Layout {
+        BIZ,
+        CORE
+    }
+
+    public enum WriterType {
+        POI,
+        DIRECT,
+        TEMPLATE,
+        COMPACT
+    }
+
+    @Param({"10", "1000", "10000"})
+    public int methodCount;
+
+    @Param({"BIZ", "CORE"})
+    public Layout layout;
+
+    @Param({"POI", "DIRECT", "TEMPLATE", "COMPACT"})
+    public WriterType writer;
+
+    private final GuideExportOptions options = new GuideExportOptions();
+    private final GuideExportOptions templateOptions = new GuideExportOptions();
+    private List<BizApiDescriptor> bizApis;
+    private List<CoreMethodDescriptor> coreMethods;
+
+    /**
+     * 워크북 1개의 출력 크기 (바이트). 매 호출 입력이 같으므로 반복(iteration)마다 마지막 값을 보고한다.
+     * EVENTS 카운터는 반복 결과를 합산하므로 요약 행의 값은 (반복 수 x 워크북 크기) 이다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WrittenBytes {
+        public long writtenBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        templateOptions.setTemplateEnabled(true);
+        if (layout == Layout.BIZ) {
+            bizApis = SyntheticGuideData.bizApis(methodCount);
+        } else {
+            coreMethods = SyntheticGuideData.coreMethods(methodCount);
+        }
+    }
+
+    @Benchmark
+    public void renderAndWrite(WrittenBytes written) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        if (writer == WriterType.DIRECT) {
+            writeDirect(out);
+        } else if (writer == WriterType.COMPACT) {
+            writeCompact(out);
+        } else if (writer == WriterType.TEMPLATE && templateOptions.useTemplate(methodCount)) {
+            writeTemplate(out);
+        } else {
+            writePoi(out);
+        }
+        written.writtenBytes = out.count;
+    }
+
+    private void writePoi(OutputStream out) throws IOException {
+        Workbook workbook = options.useStreaming(methodCount)
+                ? new StreamingWorkbook(options.getStreamingRowWindow())
+                : new XSSFWorkbook();
+        try {
+            if (layout == Layout.BIZ) {
+                BizSheetRenderer renderer = new BizSheetRenderer(workbook);
+                bizApis.forEach(renderer::render);
+            } else {
+                CoreSheetRenderer renderer = new CoreSheetRenderer(workbook);
+                coreMethods.forEach(renderer::render);
+            }
+            workbook.write(out);
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private void writeCompact(OutputStream out) throws IOException {
+        StreamingWorkbook workbook = new StreamingWorkbook(options.getStreamingRowWindow());
+        try {
+            if (layout == Layout.BIZ) {
+                CompactBizSheetRenderer renderer = new CompactBizSheetRenderer(workbook);
+                bizApis.forEach(renderer::render);
+            } else {
+                CompactCoreSheetRenderer renderer = new CompactCoreSheetRenderer(workbook);
+                coreMethods.forEach(renderer::render);
+            }
+            workbook.write(out);
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private void writeTemplate(OutputStream out) throws IOException {
+        try (XSSFWorkbook workbook = GuideTemplate.open()) {
+            if (layout == Layout.BIZ) {
+                BizSheetRenderer renderer = BizSheetRenderer.fromTemplate(workbook);
+                bizApis.forEach(renderer::render);
+            } else {
+                CoreSheetRenderer renderer = CoreSheetRenderer.fromTemplate(workbook);
+                coreMethods.forEach(renderer::render);
+            }
+            GuideTemplate.removeTemplateSheets(workbook);
+            workbook.write(out);
+        }
+    }
+
+    private void writeDirect(OutputStream out) throws IOException {
+        try (SpreadsheetMLWriter spreadsheet = new SpreadsheetMLWriter(out)) {
+            if (layout == Layout.BIZ) {
+                DirectBizSheetRenderer renderer = new DirectBizSheetRenderer(spreadsheet);
+                bizApis.forEach(renderer::render);
+            } else {
+                DirectCoreSheetRenderer renderer = new DirectCoreSheetRenderer(spreadsheet);
+                coreMethods.forEach(renderer::render);
+            }
+        }
+    }
+
+    /**
+     * 기록된 바이트 수만 세는 출력 스트림
+     */
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
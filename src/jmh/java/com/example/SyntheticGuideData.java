@@ -0,0 +1,129 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 가상 API/메소드 정보
+ * 실제 컨트롤러와 비슷한 분량(한글 설명, 여러 줄 요청/응답 예시, 파라미터)을 고정 시드로 생성한다.
+ */
+final class SyntheticGuideData {
+
+    private static final String[] VERBS = {"get", "create", "update", "delete", "undelete", "realdelete", "search"};
+    private static final String[] ENTITIES = {"Member", "Order", "Product", "Invoice", "Shipment", "Coupon", "Review"};
+    private static final String[] TYPES = {"String", "Long", "Integer", "Boolean", "LocalDate", "List<String>"};
+    private static final String[] SENTENCES = {
+            "요청 파라미터를 검증하고 조회 조건을 생성한다.",
+            "권한이 없는 사용자의 요청은 예외를 발생시킨다.",
+            "조회 결과를 응답 DTO 로 변환하여 반환한다.",
+            "변경 이력을 저장하고 캐시를 무효화한다.",
+            "외부 시스템 연동 결과에 따라 상태를 갱신한다.",
+            "삭제 대상이 없으면 NotFoundException 을 발생시킨다."
+    };
+
+    private SyntheticGuideData() {
+    }
+
+    static List<BizApiDescriptor> bizApis(int count) {
+        Random random = new Random(42);
+        List<BizApiDescriptor> apis = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String entity = pick(random, ENTITIES);
+            String methodName = pick(random, VERBS) + entity + (i / ENTITIES.length);
+            apis.add(new BizApiDescriptor(
+                    methodName,
+                    entity + "Controller",
+                    random.nextBoolean() ? "GET" : "POST",
+                    "/api/v1/" + entity.toLowerCase() + "/" + methodName,
+                    entity + " " + pick(random, SENTENCES),
+                    paragraph(random, 3),
+                    entity + "Service / " + methodName,
+                    entity + "Repository, " + entity + "HistoryRepository",
+                    random.nextInt(4) == 0,
+                    logicDescriptions(random),
+                    parameters(random, "Y", "N"),
+                    json(random, 8),
+                    entity + " 처리 결과",
+                    json(random, 12)));
+        }
+        return apis;
+    }
+
+    static List<CoreMethodDescriptor> coreMethods(int count) {
+        Random random = new Random(42);
+        List<CoreMethodDescriptor> methods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String entity = pick(random, ENTITIES);
+            String methodName = pick(random, VERBS) + entity + "Entities" + (i / ENTITIES.length);
+            methods.add(new CoreMethodDescriptor(
+                    methodName,
+                    entity + "Service",
+                    methodName + " 기능",
+                    paragraph(random, 3),
+                    logicDescriptions(random),
+                    parameters(random, "필수", "선택"),
+                    "List<" + entity + "Dto>"));
+        }
+        return methods;
+    }
+
+    static List<CoreTestResultExcelExporter.TestResultRow> testResults(int count) {
+        Random random = new Random(42);
+        List<CoreTestResultExcelExporter.TestResultRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String entity = pick(random, ENTITIES);
+            String methodName = pick(random, VERBS) + entity;
+            boolean success = random.nextInt(10) != 0;
+            rows.add(new CoreTestResultExcelExporter.TestResultRow(
+                    entity + "Service",
+                    methodName,
+                    entity + " " + pick(random, SENTENCES),
+                    entity + "ServiceTest",
+                    methodName + "_test" + i,
+                    success ? CoreTestResultExcelExporter.Status.SUCCESS : CoreTestResultExcelExporter.Status.FAIL,
+                    random.nextDouble() * 2,
+                    success ? "" : "expected: <200> but was: <500>"));
+        }
+        return rows;
+    }
+
+    private static List<String> logicDescriptions(Random random) {
+        List<String> descriptions = new ArrayList<>();
+        for (int i = 0, n = 2 + random.nextInt(6); i < n; i++) {
+            descriptions.add(pick(random, SENTENCES));
+        }
+        return descriptions;
+    }
+
+    private static List<ParameterDescriptor> parameters(Random random, String required, String optional) {
+        List<ParameterDescriptor> parameters = new ArrayList<>();
+        for (int i = 0, n = 1 + random.nextInt(6); i < n; i++) {
+            String name = i == n - 1 && random.nextBoolean() ? "saveHist" : "param" + i;
+            parameters.add(new ParameterDescriptor(name, pick(random, TYPES), random.nextBoolean() ? required : optional, name + " 파라미터"));
+        }
+        return parameters;
+    }
+
+    private static String paragraph(Random random, int lines) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            if (i > 0) text.append('\n');
+            text.append(pick(random, SENTENCES));
+        }
+        return text.toString();
+    }
+
+    private static String json(Random random, int fields) {
+        StringBuilder json = new StringBuilder("{\n");
+        for (int i = 0; i < fields; i++) {
+            json.append("  \"field").append(i).append("\": \"").append(pick(random, ENTITIES)).append(random.nextInt(1000)).append('"');
+            json.append(i < fields - 1 ? ",\n" : "\n");
+        }
+        return json.append('}').toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,62 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트 결과 엑셀 생성 벤치마크 ({@link CoreTestResultExcelExporter}, 파일 저장 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class TestResultExportBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int rowCount;
+
+    private final CoreTestResultExcelExporter exporter = new CoreTestResultExcelExporter();
+    private List<CoreTestResultExcelExporter.TestResultRow> rows;
+    private File outputFile;
+
+    /**
+     * 생성된 파일 크기 (바이트). 매 호출 입력이 같으므로 반복(iteration)마다 마지막 값을 보고한다.
+     * EVENTS 카운터는 반복 결과를 합산하므로 요약 행의 값은 (반복 수 x 파일 크기) 이다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WrittenBytes {
+        public long writtenBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        rows = SyntheticGuideData.testResults(rowCount);
+        outputFile = Files.createTempFile("test-result-bench", ".xlsx").toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        outputFile.delete();
+    }
+
+    @Benchmark
+    public void export(WrittenBytes written) throws IOException {
+        exporter.export(outputFile, rows);
+        written.writtenBytes = outputFile.length();
+    }
+}
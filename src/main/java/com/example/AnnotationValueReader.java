@@ -0,0 +1,117 @@
+package com.example;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiEnumConstant;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 어노테이션 속성 값 조회 (read action 안에서 호출)
+ * 문자열 연결("..." + "..."), 상수 참조는 PSI 상수 계산으로 평가하고,
+ * enum 참조는 "RequestMethod.POST" 형태, 배열은 ", " 로 연결한 문자열로 반환한다.
+ * 단일 리터럴은 그대로 반환하고, 계산된 문자열 상수와 계산할 수 없는 원문은 HTML 태그와 빈 줄을 제거하고 줄마다 앞뒤 공백을 정리한다.
+ * 결과는 어노테이션별로 캐시되며 PSI 가 수정되면 다시 계산한다.
+ */
+final class AnnotationValueReader {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+
+    private AnnotationValueReader() {
+    }
+
+    /**
+     * @return 속성 값 문자열, 속성이 없으면 ""
+     */
+    static String read(PsiAnnotation annotation, String attributeName) {
+        if (annotation == null) return "";
+
+        Map<String, String> values = CachedValuesManager.getCachedValue(annotation, () ->
+                CachedValueProvider.Result.create(new ConcurrentHashMap<>(), PsiModificationTracker.MODIFICATION_COUNT));
+        return values.computeIfAbsent(attributeName, name -> evaluate(annotation.findDeclaredAttributeValue(name)));
+    }
+
+    private static String evaluate(PsiAnnotationMemberValue value) {
+        if (value == null) return "";
+
+        if (value instanceof PsiLiteralExpression literal) {
+            Object literalValue = literal.getValue();
+            return literalValue != null ? literalValue.toString() : "";
+        }
+
+        if (value instanceof PsiArrayInitializerMemberValue array) {
+            StringBuilder joined = new StringBuilder();
+            for (PsiAnnotationMemberValue initializer : array.getInitializers()) {
+                String element = evaluate(initializer);
+                if (element.isEmpty()) continue;
+                if (joined.length() > 0) joined.append(", ");
+                joined.append(element);
+            }
+            return joined.toString();
+        }
+
+        if (value instanceof PsiReferenceExpression reference) {
+            PsiElement resolved = reference.resolve();
+            if (resolved instanceof PsiEnumConstant enumConstant) {
+                PsiClass enumClass = enumConstant.getContainingClass();
+                return (enumClass != null ? enumClass.getName() + "." : "") + enumConstant.getName();
+            }
+        }
+
+        if (value instanceof PsiExpression expression) {
+            Object constant = JavaPsiFacade.getInstance(value.getProject())
+                    .getConstantEvaluationHelper()
+                    .computeConstantExpression(expression);
+            if (constant != null) {
+                return constantText(constant);
+            }
+        }
+
+        // 상수로 계산할 수 없는 값 (해석되지 않는 참조 등)
+        return cleanUpText(value.getText());
+    }
+
+    // 계산된 상수 값 (문자열은 이미 이스케이프가 해석되어 있으므로 태그/줄 정리만 수행)
+    private static String constantText(Object constant) {
+        if (constant == null) return "";
+        return constant instanceof String text ? cleanUpLines(text) : constant.toString();
+    }
+
+    private static String cleanUpText(String rawText) {
+        // 문자열 정리
+        rawText = rawText
+                .replaceAll("^\"|\"$", "")       // 양쪽 따옴표 제거
+                .replace(" + ", "")              // 문자열 연결 연산자 제거
+                .replace("\\n", "\n")            // \n → 실제 개행
+                .replace("\\\"", "\"");          // \" → "
+        return cleanUpLines(rawText);
+    }
+
+    private static String cleanUpLines(String text) {
+        text = HTML_TAG.matcher(text).replaceAll("")    // 모든 HTML 태그 제거 (예: <b>, <pre>)
+                .trim();                                    // 앞뒤 공백 제거
+
+        // 줄 단위로 정리: 의미 없는 공백 줄 제거
+        StringBuilder cleaned = new StringBuilder();
+        for (String line : text.split("\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) {
+                cleaned.append(trimmed).append("\n");
+            }
+        }
+
+        return cleaned.toString().trim();
+    }
+}
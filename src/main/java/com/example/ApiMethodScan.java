@@ -0,0 +1,128 @@
+package com.example;
+
+import com.intellij.psi.JavaRecursiveElementVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiVariable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 메소드 1개의 PSI 정보를 한 번에 수집 (read action 안에서 생성)
+ * - 메소드/클래스 어노테이션은 한 번 읽어 이름으로 조회 (getAnnotation 을 이름마다 반복 호출하지 않음)
+ * - 메소드 본문은 visitor 한 번으로 서비스 호출과 레포지토리 필드를 함께 수집
+ */
+class ApiMethodScan {
+
+    private final Map<String, PsiAnnotation> methodAnnotations;
+    private final Map<String, PsiAnnotation> classAnnotations;
+    private final boolean hasBody;
+    private String serviceCall;
+    private final List<String> repositoryFields = new ArrayList<>();
+
+    ApiMethodScan(PsiMethod method, PsiClass clazz, InjectedFieldIndex fieldIndex) {
+        this.methodAnnotations = annotationsByName(method);
+        this.classAnnotations = annotationsByName(clazz);
+
+        PsiCodeBlock body = method.getBody();
+        PsiClass containingClass = method.getContainingClass();
+        this.hasBody = body != null && containingClass != null;
+        if (hasBody) {
+            scanBody(body, fieldIndex.serviceFields(containingClass), fieldIndex);
+        }
+    }
+
+    /**
+     * 메소드 어노테이션 조회 (이름을 순서대로 확인하여 처음 찾은 어노테이션, 없으면 null)
+     * 이름은 정규화된 이름 또는 해석되지 않은 경우의 짧은 이름
+     */
+    PsiAnnotation methodAnnotation(String... names) {
+        return find(methodAnnotations, names);
+    }
+
+    PsiAnnotation classAnnotation(String... names) {
+        return find(classAnnotations, names);
+    }
+
+    boolean hasBody() {
+        return hasBody;
+    }
+
+    /**
+     * 마지막으로 호출된 서비스 메소드 ("서비스 타입 / 메소드명"), 없으면 null
+     */
+    String serviceCall() {
+        return serviceCall;
+    }
+
+    /**
+     * 호출된 객체 타입의 레포지토리 필드 이름 (호출 순서대로, 중복 포함)
+     */
+    List<String> repositoryFields() {
+        return repositoryFields;
+    }
+
+    private void scanBody(PsiCodeBlock body, Map<String, String> serviceFields, InjectedFieldIndex fieldIndex) {
+        body.accept(new JavaRecursiveElementVisitor() {
+            @Override
+            public void visitMethodCallExpression(PsiMethodCallExpression expression) {
+                super.visitMethodCallExpression(expression);
+                PsiExpression qualifier = expression.getMethodExpression().getQualifierExpression();
+                if (!(qualifier instanceof PsiReferenceExpression reference)) return;
+
+                // 서비스 정보: 서비스 필드를 통한 호출
+                String qualifierName = reference.getReferenceName();
+                if (qualifierName != null && serviceFields.containsKey(qualifierName)) {
+                    serviceCall = serviceFields.get(qualifierName) + " / " + expression.getMethodExpression().getReferenceName();
+                }
+
+                // 레포지토리 정보: 호출 대상 객체 타입의 레포지토리 필드
+                PsiElement resolvedQualifier = reference.resolve();
+                if (resolvedQualifier instanceof PsiVariable variable) {
+                    PsiType qualifierType = variable.getType();
+                    if (qualifierType instanceof PsiClassType classType) {
+                        PsiClass qualifierClass = classType.resolve();
+                        if (qualifierClass != null) {
+                            repositoryFields.addAll(fieldIndex.repositoryFields(qualifierClass));
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static Map<String, PsiAnnotation> annotationsByName(PsiModifierListOwner owner) {
+        if (owner == null || owner.getModifierList() == null) return Collections.emptyMap();
+
+        Map<String, PsiAnnotation> annotations = new HashMap<>();
+        for (PsiAnnotation annotation : owner.getModifierList().getAnnotations()) {
+            String qualifiedName = annotation.getQualifiedName();
+            if (qualifiedName != null) {
+                // 같은 어노테이션이 반복되면 getAnnotation 과 같이 첫 번째 사용
+                annotations.putIfAbsent(qualifiedName, annotation);
+            }
+        }
+        return annotations;
+    }
+
+    private static PsiAnnotation find(Map<String, PsiAnnotation> annotations, String... names) {
+        for (String name : names) {
+            PsiAnnotation annotation = annotations.get(name);
+            if (annotation != null) return annotation;
+        }
+        return null;
+    }
+}
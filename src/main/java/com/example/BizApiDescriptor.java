@@ -0,0 +1,44 @@
+package com.example;
+
+import java.util.List;
+
+/**
+ * Biz 가이드 시트 1개(API 메소드 1개)에 필요한 정보
+ * PSI 에서 추출한 문자열/기본형 값만 보관하므로 read action 밖에서 렌더링할 수 있다.
+ *
+ * @param methodName          API 메소드명
+ * @param controllerClassName 컨트롤러 클래스명
+ * @param httpMethod          HTTP 메소드 (GET, POST ...)
+ * @param urlPath             클래스 + 메소드 매핑 경로
+ * @param description         API 설명 (@Operation summary)
+ * @param detailDescription   API 상세 설명 (@Operation description)
+ * @param serviceInfo         "서비스 클래스 / 메소드"
+ * @param repositoryInfo      호출 서비스의 Repository 필드 목록
+ * @param inCorePackage       컨트롤러가 core 패키지에 있는지 여부
+ * @param logicDescriptions   Logic 설명 목록
+ * @param parameters          파라미터 목록
+ * @param requestExample      요청 예시 (여러 줄)
+ * @param responseDescription 응답 설명
+ * @param responseJsonSample  응답 JSON 예시 (여러 줄)
+ */
+public record BizApiDescriptor(
+        String methodName,
+        String controllerClassName,
+        String httpMethod,
+        String urlPath,
+        String description,
+        String detailDescription,
+        String serviceInfo,
+        String repositoryInfo,
+        boolean inCorePackage,
+        List<String> logicDescriptions,
+        List<ParameterDescriptor> parameters,
+        String requestExample,
+        String responseDescription,
+        String responseJsonSample) {
+
+    public BizApiDescriptor {
+        logicDescriptions = List.copyOf(logicDescriptions);
+        parameters = List.copyOf(parameters);
+    }
+}
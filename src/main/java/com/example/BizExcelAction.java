@@ -1,8 +1,14 @@
 package com.example;
 
+import com.intellij.openapi.actionSystem.ActionPlaces;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.notification.Notification;
@@ -10,11 +16,10 @@ import com.intellij.notification.NotificationType;
 import com.intellij.notification.Notifications;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.List;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -28,66 +33,95 @@ public class BizExcelAction extends AnAction {
             return;
         }
 
-        try {
-            VirtualFile[] files = e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
-            if (files == null || files.length == 0) {
-                Messages.showErrorDialog("선택된 파일이 없습니다.", "오류");
-                return;
-            }
+        VirtualFile[] files = e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+        // 도구 메뉴에서 실행하면 프로젝트 뷰에 남아 있는 선택과 무관하게 검색 범위를 고름
+        boolean filesSelected = !ActionPlaces.MAIN_MENU.equals(e.getPlace()) && files != null && files.length > 0;
 
-            List<PsiClass> controllers = new ArrayList<>();
-
-            for (VirtualFile file : files) {
-                if (file.getName().endsWith(".java")) {
-                    PsiFile psiFile = com.intellij.psi.PsiManager.getInstance(project).findFile(file);
-                    if (psiFile instanceof PsiJavaFile) {
-                        PsiJavaFile javaFile = (PsiJavaFile) psiFile;
-                        PsiClass[] psiClasses = javaFile.getClasses();
-
-                        for (PsiClass psiClass : psiClasses) {
-                            String qualifiedName = psiClass.getQualifiedName();
-                            if (qualifiedName != null) {
-                                // controllers 리스트에 PsiClass 또는 클래스 이름 저장
-                                controllers.add(psiClass);
-                            }
-                        }
-                    }
+        // 선택된 파일이 없으면 프로젝트/모듈 전체를 어노테이션 인덱스로 검색
+        GlobalSearchScope scope = filesSelected ? null : GuideClassCollector.chooseScope(project, e.getData(LangDataKeys.MODULE));
+        if (!filesSelected && scope == null) {
+            return;
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String fileName = "API_가이드_" + timestamp + ".xlsx";
+        File output = new File(System.getProperty("user.home"), fileName);
+
+        showNotification("API 가이드 엑셀 생성을 시작합니다...", NotificationType.INFORMATION);
+
+        // PSI 탐색, 엑셀 생성, 파일 저장은 모두 백그라운드에서 수행 (취소 가능)
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "NexGen Biz 가이드 생성", true) {
+            private boolean classesFound;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                indicator.setText("Java 클래스 수집 중...");
+
+                // 짧은 non-blocking read action 으로 PSI 접근 (쓰기 작업이 오면 재시작)
+                List<PsiClass> controllers = filesSelected
+                        // 폴더/패키지는 하위까지 인덱스로 검색, 직접 선택한 파일만 PSI 로 변환
+                        ? GuideClassCollector.collectFromFiles(project, files, indicator, GuideClassCollector.CONTROLLER_ANNOTATIONS)
+                        // 인덱스 검색은 인덱싱이 끝난 뒤(smart mode)에 수행
+                        : ReadAction.nonBlocking(() -> GuideClassCollector.findAnnotatedClasses(project, scope, GuideClassCollector.CONTROLLER_ANNOTATIONS))
+                                .inSmartMode(project)
+                                .wrapProgress(indicator)
+                                .executeSynchronously();
+
+                classesFound = !controllers.isEmpty();
+                if (!classesFound) {
+                    return;
                 }
-            }
 
-            if (controllers.isEmpty()) {
-                Messages.showErrorDialog("Java 클래스를 찾을 수 없습니다.", "오류");
-                return;
+                indicator.setText("API 가이드 엑셀 생성 중...");
+                BizExcelExporter exporter = new BizExcelExporter(GuideExportOptions.fromSystemProperties());
+                try {
+                    exporter.exportControllerExcel(output, controllers, indicator);
+                } catch (RuntimeException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
             }
 
-            showNotification("API 가이드 엑셀 생성을 시작합니다...", NotificationType.INFORMATION);
-
-            BizExcelExporter exporter = new BizExcelExporter();
-
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = "API_가이드_" + timestamp + ".xlsx";
-            File output = new File(System.getProperty("user.home"), fileName);
-
-            exporter.exportControllerExcel(output, controllers);
+            @Override
+            public void onSuccess() {
+                if (!classesFound) {
+                    Messages.showErrorDialog(project, "Java 클래스를 찾을 수 없습니다.", "오류");
+                    return;
+                }
 
-            int choice = Messages.showYesNoDialog(
-                    "API 가이드 엑셀 파일이 성공적으로 생성되었습니다!\n\n파일 경로: " + output.getAbsolutePath() + "\n\n파일을 열어보시겠습니까?",
-                    "API 가이드 생성 완료",
-                    "파일 열기", "확인",
-                    Messages.getQuestionIcon()
-            );
+                int choice = Messages.showYesNoDialog(
+                        "API 가이드 엑셀 파일이 성공적으로 생성되었습니다!\n\n파일 경로: " + output.getAbsolutePath() + "\n\n파일을 열어보시겠습니까?",
+                        "API 가이드 생성 완료",
+                        "파일 열기", "확인",
+                        Messages.getQuestionIcon()
+                );
+
+                if (choice == Messages.YES && java.awt.Desktop.isDesktopSupported()) {
+                    try {
+                        java.awt.Desktop.getDesktop().open(output);
+                    } catch (Exception ex) {
+                        Messages.showErrorDialog(project, "파일을 열 수 없습니다:\n" + ex.getMessage(), "오류");
+                    }
+                }
 
-            if (choice == Messages.YES && java.awt.Desktop.isDesktopSupported()) {
-                java.awt.Desktop.getDesktop().open(output);
+                showNotification("API 가이드 엑셀 파일 생성이 완료되었습니다: " + fileName, NotificationType.INFORMATION);
             }
 
-            showNotification("API 가이드 엑셀 파일 생성이 완료되었습니다: " + fileName, NotificationType.INFORMATION);
+            @Override
+            public void onCancel() {
+                showNotification("API 가이드 생성이 취소되었습니다.", NotificationType.WARNING);
+            }
 
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            Messages.showErrorDialog("API 가이드 엑셀 생성 중 오류가 발생했습니다:\n" + ex.getMessage(), "오류");
-            showNotification("API 가이드 생성 실패: " + ex.getMessage(), NotificationType.ERROR);
-        }
+            @Override
+            public void onThrowable(@NotNull Throwable error) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                cause.printStackTrace();
+                Messages.showErrorDialog(project, "API 가이드 엑셀 생성 중 오류가 발생했습니다:\n" + cause.getMessage(), "오류");
+                showNotification("API 가이드 생성 실패: " + cause.getMessage(), NotificationType.ERROR);
+            }
+        });
     }
 
     private void showNotification(String content, NotificationType type) {
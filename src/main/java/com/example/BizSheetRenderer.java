@@ -0,0 +1,567 @@
+package com.example;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Biz 가이드 렌더링 단계
+ * {@link BizApiDescriptor} 를 API 시트 1개로 그린다. PSI 에 의존하지 않으므로 IDE 없이도 실행/측정할 수 있다.
+ */
+public class BizSheetRenderer {
+
+    private final Workbook workbook;
+    private final Set<String> usedSheetNames = new HashSet<>();
+    private final MergePlanner mergePlanner = new MergePlanner();
+    private final ColumnWidthEstimator columnWidths = new ColumnWidthEstimator(9);
+
+    private final CellStyle grayHeaderStyle;
+    private final CellStyle dataStyle;
+    private final CellStyle categoryStyle;
+    private final CellStyle nonBottomCategoryStyle;
+    private final CellStyle firstColumnCategoryStyle;
+    private final CellStyle firstColumnDataStyle;
+    private final CellStyle rightBorderStyle;
+
+    // 템플릿 모드에서 복제할 골격 시트 번호 (-1 이면 고정 영역도 코드로 작성)
+    private final int skeletonIndex;
+
+    public BizSheetRenderer(Workbook workbook) {
+        this.workbook = workbook;
+        this.skeletonIndex = -1;
+
+        // 스타일 생성 (속성이 같은 스타일은 하나로 공유)
+        StyleRegistry styles = new StyleRegistry(workbook);
+        this.grayHeaderStyle = createGrayHeaderStyle(styles);
+        this.dataStyle = createDataStyle(styles);
+        this.categoryStyle = createCategoryStyle(styles, true);
+        this.nonBottomCategoryStyle = createCategoryStyle(styles, false);
+        this.firstColumnCategoryStyle = createFirstColumnCategoryStyle(styles);
+        this.firstColumnDataStyle = createFirstColumnDataStyle(styles);
+        this.rightBorderStyle = createRightBorderStyle(styles);
+    }
+
+    private BizSheetRenderer(XSSFWorkbook template, String skeletonName) {
+        this.workbook = template;
+        this.skeletonIndex = GuideTemplate.skeletonIndex(template, skeletonName);
+        usedSheetNames.addAll(List.of(GuideTemplate.sheetNames()));
+
+        // 스타일은 템플릿의 스타일 견본 사용
+        this.grayHeaderStyle = GuideTemplate.sampleStyle(template, GuideTemplate.GRAY_HEADER);
+        this.dataStyle = GuideTemplate.sampleStyle(template, GuideTemplate.DATA);
+        this.categoryStyle = GuideTemplate.sampleStyle(template, GuideTemplate.CATEGORY);
+        this.nonBottomCategoryStyle = GuideTemplate.sampleStyle(template, GuideTemplate.NON_BOTTOM_CATEGORY);
+        this.firstColumnCategoryStyle = GuideTemplate.sampleStyle(template, GuideTemplate.FIRST_COLUMN_CATEGORY);
+        this.firstColumnDataStyle = GuideTemplate.sampleStyle(template, GuideTemplate.FIRST_COLUMN_DATA);
+        this.rightBorderStyle = GuideTemplate.sampleStyle(template, GuideTemplate.RIGHT_BORDER);
+    }
+
+    /**
+     * 템플릿 모드 렌더러 - 고정 영역(메인 헤더 ~ Logic 설명 컬럼 헤더)은 골격 시트를 복제하고 가변 셀만 채운다.
+     * @param template {@link GuideTemplate#open()} 으로 연 워크북 (저장 전 {@link GuideTemplate#removeTemplateSheets} 호출 필요)
+     */
+    public static BizSheetRenderer fromTemplate(XSSFWorkbook template) {
+        return new BizSheetRenderer(template, GuideTemplate.BIZ_SKELETON);
+    }
+
+    /**
+     * API 1개를 시트 1개로 렌더링
+     */
+    public Sheet render(BizApiDescriptor api) {
+        columnWidths.reset();
+
+        // 시트 이름으로 API 이름 사용
+        String sheetName = sanitizeSheetName(api.methodName());
+        Sheet sheet;
+        int rowNum;
+
+        if (skeletonIndex >= 0) {
+            // 고정 영역은 골격 시트를 복제하고 가변 셀만 채움
+            sheet = ((XSSFWorkbook) workbook).cloneSheet(skeletonIndex, sheetName);
+            rowNum = fillSkeleton(sheet, api);
+        } else {
+            sheet = workbook.createSheet(sheetName);
+            rowNum = 0;
+
+            // 메인 헤더 생성 (A1:I2)
+            createMainHeaders(sheet, grayHeaderStyle, dataStyle, rowNum, api);
+            rowNum = 1;
+
+            // API 기본 정보 섹션
+            rowNum = createApiBasicInfoSection(sheet, api, rowNum, dataStyle, categoryStyle, firstColumnCategoryStyle, firstColumnDataStyle);
+
+            // Java Class Layer 섹션
+            rowNum = createJavaClassLayerSection(sheet, api, rowNum, dataStyle, categoryStyle, firstColumnCategoryStyle, firstColumnDataStyle);
+
+            // Logic 설명 헤더
+            rowNum = createLogicHeader(sheet, rowNum, categoryStyle, firstColumnCategoryStyle);
+        }
+
+        // Logic 설명 섹션
+        rowNum = createLogicSection(sheet, api, rowNum, dataStyle);
+
+        // 파라미터 섹션
+        rowNum = createParameterSection(sheet, api, rowNum, dataStyle, categoryStyle, firstColumnCategoryStyle);
+
+        // 요청예시 섹션
+        rowNum = createRequestExampleSection(sheet, api, rowNum, dataStyle, categoryStyle, nonBottomCategoryStyle, firstColumnCategoryStyle);
+
+        // Response JSON 섹션
+        rowNum = createResponseSection(sheet, api, rowNum, dataStyle, nonBottomCategoryStyle, firstColumnCategoryStyle);
+
+        // 병합 영역은 모아 두었다가 겹침 검사 후 한 번에 추가
+        mergePlanner.commit(sheet);
+
+        // 컬럼 너비 조정 (A~I열) - 셀 생성 시 기록한 문자열 길이로 계산 (autoSizeColumn 대체)
+        columnWidths.applyTo(sheet, 2500, 8000, 6000);
+
+        if (workbook instanceof StreamingWorkbook) {
+            // 완성된 시트는 임시 파일로 내보내고 스트림을 닫아 메모리/파일 핸들을 반환
+            ((StreamingWorkbook) workbook).finishSheet(sheet);
+        }
+        return sheet;
+    }
+
+    private String sanitizeSheetName(String name) {
+        String sanitized = name.replaceAll("[\\\\/?*\\[\\]]", "");
+        if (sanitized.length() > 31) {
+            sanitized = sanitized.substring(0, 31);
+        }
+
+        String uniqueName = sanitized;
+        int counter = 1;
+        while (usedSheetNames.contains(uniqueName)) {
+            uniqueName = sanitized.substring(0, Math.min(28, sanitized.length())) + "_" + counter;
+            counter++;
+        }
+
+        usedSheetNames.add(uniqueName);
+        return uniqueName;
+    }
+
+    private void createMainHeaders(Sheet sheet, CellStyle headerStyle, CellStyle dataStyle, int startRow, BizApiDescriptor api) {
+        // 첫 번째 헤더 행
+        Row row0 = sheet.createRow(startRow);
+        createCell(row0, 0, "목록", null);
+
+        // 첫 번째 헤더 행
+        Row row1 = sheet.createRow(startRow);
+        createCell(row1, 0, "API Name", headerStyle);
+        createCell(row1, 1, api.methodName(), dataStyle);
+        createCell(row1, 2, "", dataStyle);
+        createCell(row1, 3, "", dataStyle);
+        createCell(row1, 4, "Http Method", headerStyle);
+        createCell(row1, 5, api.httpMethod(), dataStyle);
+        createCell(row1, 6, "", dataStyle);
+
+        addMergedRegion(sheet, new CellRangeAddress(startRow, startRow, 1, 3)); // API Name
+        addMergedRegion(sheet, new CellRangeAddress(startRow, startRow, 5, 6)); // Http Method
+
+    }
+    private void createEmptyCells(Row row, int fromCol, int toCol, CellStyle style) {
+        for (int col = fromCol; col <= toCol; col++) {
+            createCell(row, col, "", style);
+        }
+    }
+
+    private int createApiBasicInfoSection(Sheet sheet, BizApiDescriptor api, int startRow, CellStyle dataStyle, CellStyle categoryStyle, CellStyle firstColumnCategoryStyle, CellStyle firstColumnDataStyle) {
+        int currentRow = startRow;
+
+        // URL
+        Row row0 = sheet.createRow(currentRow++);
+        createCell(row0, 0, "URL", firstColumnCategoryStyle);
+        createCell(row0, 1, api.urlPath(), dataStyle);
+        createEmptyCells(row0, 2, 6, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 1, 6));
+
+        // API 설명 행
+        Row row01 = sheet.createRow(currentRow++);
+        createCell(row01, 0, "요구사항 ID", firstColumnCategoryStyle);
+        createCell(row01, 1, "", dataStyle);
+        createEmptyCells(row01, 2, 6, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 1, 6));
+
+        // API 설명 행
+        Row row1 = sheet.createRow(currentRow++);
+        createCell(row1, 0, "API 설명", firstColumnCategoryStyle);
+        createCell(row1, 1, api.description(), dataStyle);
+        createEmptyCells(row1, 2, 6, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 1, 6));
+
+        // 행 높이 자동 조정 흉내: 텍스트 줄 수 기준 수동 조정
+        String descriptionText = api.description();
+        int lines = descriptionText.split("\n").length;
+        float lineHeight = sheet.getDefaultRowHeightInPoints(); // 보통 15.0
+        row1.setHeightInPoints(lines * lineHeight); // 줄 수 × 기본 높이
+
+        // API 상세 설명 행
+        Row row2 = sheet.createRow(currentRow++);
+        createCell(row2, 0, "API 상세 설명", firstColumnCategoryStyle);
+        createCell(row2, 1, api.detailDescription(), dataStyle);
+        createEmptyCells(row2, 2, 6, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 1, 6));
+
+        // 행 높이 자동 조정 흉내: 텍스트 줄 수 기준 수동 조정
+        String descriptionText2 = api.description();
+        int lines2 = descriptionText2.split("\n").length;
+        float lineHeight2 = sheet.getDefaultRowHeightInPoints(); // 보통 15.0
+        row2.setHeightInPoints(lines2 * lineHeight2); // 줄 수 × 기본 높이
+
+        return currentRow;
+    }
+
+    private int createJavaClassLayerSection(Sheet sheet, BizApiDescriptor api, int startRow, CellStyle dataStyle, CellStyle categoryStyle, CellStyle firstColumnCategoryStyle, CellStyle firstColumnDataStyle) {
+        int currentRow = startRow;
+
+        // Java Class Layer 헤더
+        Row headerRow = sheet.createRow(currentRow++);
+        createCell(headerRow, 0, "Java Class Layer", firstColumnCategoryStyle);
+        createEmptyCells(headerRow, 1, 6, firstColumnCategoryStyle);
+//        sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
+        CellRangeAddress region2 = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6);
+        addMergedRegion(sheet, region2);
+
+        // Controller Class / Method
+        Row row1 = sheet.createRow(currentRow++);
+        createCell(row1, 0, "Controller Class / Method", firstColumnCategoryStyle);
+        createCell(row1, 1, api.controllerClassName() + " / " + api.methodName(), dataStyle);
+        createEmptyCells(row1, 2, 6, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 1, 6));
+
+        // Service Class / Method
+        Row row2 = sheet.createRow(currentRow++);
+        createCell(row2, 0, "Service Class / Method", firstColumnCategoryStyle);
+        createCell(row2, 1, api.serviceInfo(), dataStyle);
+        createEmptyCells(row2, 2, 6, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 1, 6));
+
+        // Repository Class / Method
+        Row row3 = sheet.createRow(currentRow++);
+        createCell(row3, 0, "Repository Class", firstColumnCategoryStyle);
+        createCell(row3, 1, api.repositoryInfo(), dataStyle);
+        createEmptyCells(row3, 2, 6, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 1, 6));
+
+        return currentRow;
+    }
+
+    private String returnPropertMethod(String methodName) {
+        methodName = methodName.toLowerCase(); // 소문자 변환
+
+        if (methodName.contains("realdelete")) {
+            return "realdeleteEntities";
+        } else if (methodName.contains("undelete")) {
+            return "undeleteEntities";
+        } else if (methodName.contains("delete")) {
+            return "deleteEntities";
+        } else if (methodName.contains("create")) {
+            return "createEntities";
+        } else if (methodName.contains("update")) {
+            return "updateEntities";
+        } else {
+            return "getCustomQueryPredicates";
+        }
+    }
+
+    // 템플릿 골격 시트를 복제한 시트에 API 정보 채우기 (createMainHeaders ~ createLogicHeader 와 같은 위치)
+    private int fillSkeleton(Sheet sheet, BizApiDescriptor api) {
+        setSkeletonValue(sheet, 0, 1, api.methodName());
+        setSkeletonValue(sheet, 0, 5, api.httpMethod());
+        setSkeletonValue(sheet, 1, 1, api.urlPath());
+        setSkeletonValue(sheet, 3, 1, api.description());
+        setSkeletonValue(sheet, 4, 1, api.detailDescription());
+        setSkeletonValue(sheet, 6, 1, api.controllerClassName() + " / " + api.methodName());
+        setSkeletonValue(sheet, 7, 1, api.serviceInfo());
+        setSkeletonValue(sheet, 8, 1, api.repositoryInfo());
+
+        // 행 높이 자동 조정 흉내: createApiBasicInfoSection 과 동일하게 두 행 모두 API 설명 줄 수 기준
+        float height = api.description().split("\n").length * sheet.getDefaultRowHeightInPoints();
+        sheet.getRow(3).setHeightInPoints(height);
+        sheet.getRow(4).setHeightInPoints(height);
+
+        recordSkeleton(sheet, GuideTemplate.BIZ_SKELETON_ROWS);
+        return GuideTemplate.BIZ_SKELETON_ROWS;
+    }
+
+    private int createLogicHeader(Sheet sheet, int startRow, CellStyle categoryStyle, CellStyle firstColumnCategoryStyle) {
+        int currentRow = startRow;
+
+        // Logic 설명 헤더
+        Row headerRow = sheet.createRow(currentRow++);
+        createCell(headerRow, 0, "Logic 설명", categoryStyle);
+        createEmptyCells(headerRow, 1, 6, firstColumnCategoryStyle);
+//    sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
+        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6);
+        addMergedRegion(sheet, region);
+
+        Row row1 = sheet.createRow(currentRow++);
+        createCell(row1, 0, "로직단계유형", categoryStyle);
+        createCell(row1, 1, "메서드", categoryStyle);
+        createCell(row1, 2, "Core 클래스", categoryStyle);
+        createCell(row1, 3, "Core 메소드", categoryStyle);
+        for (int i = 4; i < 6; i++) {
+            createCell(row1, i, "", categoryStyle);
+        }
+        createCell(row1, 6, "Description", categoryStyle);
+
+        sheet.setColumnWidth(2, 20 * 256); // 열 인덱스 2 (즉, "Core 클래스")
+        sheet.setColumnWidth(3, 30 * 256); // 열 인덱스 3 (즉, "Core 메소드")
+
+        return currentRow;
+    }
+
+    private int createLogicSection(Sheet sheet, BizApiDescriptor api, int startRow, CellStyle dataStyle) {
+        int currentRow = startRow;
+
+        List<String> logicDescriptions = api.logicDescriptions();
+        String methodClassName = api.controllerClassName();
+
+        for (int i = 0; i < Math.max(logicDescriptions.size(), 3); i++) {
+            Row dataRow = sheet.createRow(currentRow++);
+            createCell(dataRow, 0, i < logicDescriptions.size() ? logicDescriptions.get(i) : "", dataStyle);
+            createCell(dataRow, 1, i==0 ? "Controller" : i==1 ? "Service" : "", dataStyle);
+            createCell(dataRow, 3, i==0 ? api.methodName() : i==1 ? returnPropertMethod(api.methodName()) : "", dataStyle);
+
+            String coreClass = "";
+
+            // CORE 패키지명 여부 확인
+            if (api.inCorePackage()) {
+                coreClass = methodClassName;
+            }
+
+            createCell(dataRow, 2, i==1 ? "CrudService" : coreClass, dataStyle);
+
+            createEmptyCells(dataRow, 4, 6, dataStyle); // 나머지 빈 셀
+        }
+
+        return currentRow;
+    }
+
+    private int createParameterSection(Sheet sheet, BizApiDescriptor api, int startRow, CellStyle dataStyle, CellStyle categoryStyle, CellStyle firstColumnCategoryStyle) {
+        int currentRow = startRow;
+
+        // 파라미터 헤더
+        Row headerRow = sheet.createRow(currentRow++);
+        createCell(headerRow, 0, "파라미터", categoryStyle);
+        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6);
+        addMergedRegion(sheet, region);
+        // 병합 영역 오른쪽 끝 테두리 (셀이 없는 열이므로 테두리만 있는 빈 셀)
+        createBlankCell(headerRow, 6, rightBorderStyle);
+
+        Row row1 = sheet.createRow(currentRow++);
+        createCell(row1, 0, "속성", categoryStyle);
+        createCell(row1, 1, "타입", categoryStyle);
+        createCell(row1, 2, "필수여부", categoryStyle);
+        createCell(row1, 3, "설명", categoryStyle);
+        for (int i = 4; i < 6; i++) {
+            createCell(row1, i, "", categoryStyle);
+        }
+        createCell(row1, 6, "Description", categoryStyle);
+
+        // 파라미터 데이터
+        List<ParameterDescriptor> parameters = api.parameters();
+        int maxParams = Math.max(1, parameters.size());
+
+        for (int i = 0; i < Math.max(maxParams, 3); i++) { // 최소 3개 행
+            Row dataRow = sheet.createRow(currentRow++);
+            ParameterDescriptor param = i < parameters.size() ? parameters.get(i) : null;
+            createCell(dataRow, 0, param != null ? param.name() : "", dataStyle);
+            createCell(dataRow, 1, param != null ? param.type() : "", dataStyle);
+            createCell(dataRow, 2, param != null ? param.required() : "", dataStyle);
+            createCell(dataRow, 3, param == null ? "" : i==0 ? param.description() : param.name().equals("saveHist") ? "이력 저장 여부" : "", dataStyle);
+            for (int j = 4; j < 7; j++) {
+                createCell(dataRow, j, "", dataStyle);
+            }
+        }
+
+        return currentRow;
+    }
+
+    private int createRequestExampleSection(Sheet sheet, BizApiDescriptor api, int startRow, CellStyle dataStyle, CellStyle categoryStyle, CellStyle nonBottomCategoryStyle, CellStyle firstColumnCategoryStyle) {
+        int currentRow = startRow;
+
+        // 요청예시 헤더
+        Row headerRow = sheet.createRow(currentRow++);
+        createCell(headerRow, 0, "요청예시", categoryStyle);
+        createEmptyCells(headerRow, 1, 6, categoryStyle);
+//        sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
+        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6);
+        addMergedRegion(sheet, region);
+
+        // 요청예시 데이터 (여러 행으로 분할)
+        String[] exampleLines = api.requestExample().split("\n");
+
+        for (int i = 0; i < exampleLines.length ; i++) { // 최소 3개 행
+            Row dataRow = sheet.createRow(currentRow++);
+            createCell(dataRow, 0, i < exampleLines.length ? exampleLines[i] : "", dataStyle);
+            createEmptyCells(headerRow, 1, 6, dataStyle);
+//            sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
+            CellRangeAddress region2 = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6);
+            addMergedRegion(sheet, region2);
+            // 병합 영역 오른쪽 끝 테두리 (셀이 없는 열이므로 테두리만 있는 빈 셀)
+            createBlankCell(dataRow, 6, rightBorderStyle);
+        }
+
+        return currentRow;
+    }
+
+    private int createResponseSection(Sheet sheet, BizApiDescriptor api, int startRow, CellStyle dataStyle, CellStyle categoryStyle, CellStyle firstColumnCategoryStyle) {
+        int currentRow = startRow;
+
+        // Response JSON 헤더
+        Row headerRow = sheet.createRow(currentRow++);
+        createCell(headerRow, 0, "Response JSON", categoryStyle);
+        createEmptyCells(headerRow, 1, 6, categoryStyle);
+//        sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
+        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6);
+        addMergedRegion(sheet, region);
+
+        Row row1 = sheet.createRow(currentRow++);
+        createCell(row1, 0, "Element", categoryStyle);
+        createCell(row1, 1, "Type", categoryStyle);
+        createCell(row1, 2, "Content", categoryStyle);
+        for (int i = 3; i < 6; i++) {
+            createCell(row1, i, "", categoryStyle);
+        }
+        createCell(row1, 6, "Description", categoryStyle);
+
+        // Response 데이터
+        for (int i = 0; i < 3; i++) { // 3개 행
+            Row dataRow = sheet.createRow(currentRow++);
+            createCell(dataRow, 0, i == 0 ? getResponseElement(api.methodName()) : "", dataStyle);
+            createCell(dataRow, 1, i == 0 ? getResponseType(api.methodName()) : "", dataStyle);
+            createCell(dataRow, 2, i == 0 ? getResponseContent(api.methodName()) : "", dataStyle);
+            for (int j = 2; j < 6; j++) {
+                createCell(dataRow, j, "", dataStyle);
+            }
+            createCell(dataRow, 6, i == 0 ? api.responseDescription() : "", dataStyle);
+        }
+
+        // Response JSON Sample 헤더
+        Row sampleHeaderRow = sheet.createRow(currentRow++);
+        createCell(sampleHeaderRow, 0, "Response JSON Sample", categoryStyle);
+        createEmptyCells(sampleHeaderRow, 1, 6, categoryStyle);
+//        sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
+        CellRangeAddress region2 = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6);
+        addMergedRegion(sheet, region2);
+
+        // Response JSON Sample 데이터
+        String[] sampleLines = api.responseJsonSample().split("\n");
+
+        for (int i = 0; i < Math.max(sampleLines.length, 1); i++) { // 최소 3개 행
+            Row dataRow = sheet.createRow(currentRow++);
+            createCell(dataRow, 0, i < sampleLines.length ? sampleLines[i] : "", dataStyle);
+            createEmptyCells(dataRow, 1, 6, dataStyle);
+//            sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
+            CellRangeAddress region3 = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6);
+            addMergedRegion(sheet, region3);
+        }
+
+        return currentRow;
+    }
+
+    private String getResponseType(String methodName) {
+        if(methodName.equals("getCustomQueryPredicates")) {
+            return "List";
+        } else {
+            return "String";
+        }
+    }
+    private String getResponseElement(String methodName) {
+        if(methodName.equals("getCustomQueryPredicates")) {
+            return "ResponseEntity";
+        } else {
+            return "return String";
+        }
+    }
+    private String getResponseContent(String methodName) {
+        if(methodName.equals("getCustomQueryPredicates")) {
+            return "객체 Object 배열";
+        } else {
+            return "Success";
+        }
+    }
+
+    private void createCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value != null ? value : "");
+        cell.setCellStyle(style);
+        columnWidths.record(row.getRowNum(), column, value);
+    }
+
+    // 값 없이 스타일만 있는 셀 (너비 계산 대상 아님)
+    private void createBlankCell(Row row, int column, CellStyle style) {
+        row.createCell(column).setCellStyle(style);
+    }
+
+    // 골격 시트에 스타일만 입혀 둔 빈 셀에 값 채우기
+    private void setSkeletonValue(Sheet sheet, int rowNum, int column, String value) {
+        sheet.getRow(rowNum).getCell(column).setCellValue(value != null ? value : "");
+    }
+
+    // 복제한 고정 영역의 셀 값/병합 영역도 컬럼 너비 계산에 기록 (병합 영역은 템플릿에 이미 들어 있음)
+    private void recordSkeleton(Sheet sheet, int skeletonRows) {
+        for (int rowNum = 0; rowNum < skeletonRows; rowNum++) {
+            Row row = sheet.getRow(rowNum);
+            if (row == null) continue;
+            for (Cell cell : row) {
+                if (cell.getCellType() == CellType.STRING) {
+                    columnWidths.record(rowNum, cell.getColumnIndex(), cell.getStringCellValue());
+                }
+            }
+        }
+        for (CellRangeAddress region : sheet.getMergedRegions()) {
+            columnWidths.merged(region);
+        }
+    }
+
+    private void addMergedRegion(Sheet sheet, CellRangeAddress region) {
+        mergePlanner.add(region);
+        columnWidths.merged(region);
+    }
+
+    // 병합 영역 오른쪽 끝 셀용 스타일 - 오른쪽 테두리만
+    private CellStyle createRightBorderStyle(StyleRegistry styles) {
+        return styles.get(StyleRegistry.Spec.PLAIN.borders(null, null, null, BorderStyle.THIN));
+    }
+
+    private CellStyle createGrayHeaderStyle(StyleRegistry styles) {
+        return styles.get(StyleRegistry.Spec.PLAIN
+                .boldFont()
+                .color(IndexedColors.BLACK.getIndex())
+                .fill(IndexedColors.GREY_25_PERCENT.getIndex())
+                .align(HorizontalAlignment.CENTER, VerticalAlignment.CENTER)
+                .border(BorderStyle.THIN)
+                .wrap());
+    }
+
+    private CellStyle createDataStyle(StyleRegistry styles) {
+        return styles.get(StyleRegistry.Spec.PLAIN
+                .align(HorizontalAlignment.LEFT, VerticalAlignment.TOP)
+                .border(BorderStyle.THIN)
+                .wrap());
+    }
+
+    private CellStyle createCategoryStyle(StyleRegistry styles, boolean isTrue) {
+        return styles.get(StyleRegistry.Spec.PLAIN
+                .boldFont()
+                .fill(IndexedColors.GREY_25_PERCENT.getIndex())
+                .align(HorizontalAlignment.CENTER, VerticalAlignment.CENTER)
+                .borders(BorderStyle.THIN, isTrue ? BorderStyle.THIN : null, BorderStyle.THIN, BorderStyle.THIN)
+                .wrap());
+    }
+
+    // 1번째 열 (A열)용 카테고리 스타일 - 카테고리 스타일과 속성이 같으므로 같은 스타일을 공유
+    private CellStyle createFirstColumnCategoryStyle(StyleRegistry styles) {
+        return createCategoryStyle(styles, true);
+    }
+
+    // 1번째 열 (A열)용 데이터 스타일 - 데이터 스타일과 속성이 같으므로 같은 스타일을 공유
+    private CellStyle createFirstColumnDataStyle(StyleRegistry styles) {
+        return createDataStyle(styles);
+    }
+}
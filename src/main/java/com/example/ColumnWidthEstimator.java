@@ -0,0 +1,203 @@
+package com.example;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 셀 생성 시점에 이미 알고 있는 문자열 길이로 컬럼 너비를 계산한다.
+ * sheet.autoSizeColumn 은 모든 셀에 대해 AWT 폰트 레이아웃을 수행하므로, 폰트 렌더링 없이 O(셀 수)로 대체한다.
+ *
+ * - 한글/한자/일본어 및 전각 문자는 2칸, 그 외 문자는 1칸으로 계산
+ * - 여러 줄 텍스트는 가장 긴 줄 기준
+ * - autoSizeColumn 과 동일하게 병합 영역에 속한 셀은 너비 계산에서 제외
+ */
+public class ColumnWidthEstimator {
+
+    /** 엑셀 컬럼 너비 단위 (문자 1칸 = 1/256) */
+    private static final int UNITS_PER_CHAR = 256;
+    /** 엑셀 최대 컬럼 너비 */
+    private static final int MAX_COLUMN_WIDTH = 255 * UNITS_PER_CHAR;
+
+    private final int columnCount;
+
+    // 셀 단위 기록 (row, column, 표시 너비) - 병합 여부는 적용 시점에 판단
+    private int[] rows = new int[64];
+    private int[] columns = new int[64];
+    private int[] charWidths = new int[64];
+    private int size;
+
+    private final Map<Integer, List<int[]>> mergedColumnsByRow = new HashMap<>();
+
+    public ColumnWidthEstimator(int columnCount) {
+        this.columnCount = columnCount;
+    }
+
+    /**
+     * 셀 값 기록
+     */
+    public void record(int row, int column, String value) {
+        if (column < 0 || column >= columnCount || value == null || value.isEmpty()) return;
+
+        int width = displayWidth(value);
+        if (width == 0) return;
+
+        if (size == rows.length) {
+            int newLength = size * 2;
+            rows = Arrays.copyOf(rows, newLength);
+            columns = Arrays.copyOf(columns, newLength);
+            charWidths = Arrays.copyOf(charWidths, newLength);
+        }
+        rows[size] = row;
+        columns[size] = column;
+        charWidths[size] = width;
+        size++;
+    }
+
+    /**
+     * 병합 영역 기록 (해당 셀들은 너비 계산에서 제외)
+     */
+    public void merged(CellRangeAddress region) {
+        merged(region.getFirstRow(), region.getLastRow(), region.getFirstColumn(), region.getLastColumn());
+    }
+
+    /**
+     * 병합 영역 기록 (행/열 번호, 양 끝 포함)
+     */
+    public void merged(int firstRow, int lastRow, int firstColumn, int lastColumn) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            mergedColumnsByRow.computeIfAbsent(row, k -> new ArrayList<>(2))
+                    .add(new int[]{firstColumn, lastColumn});
+        }
+    }
+
+    /**
+     * 컬럼별 추정 너비 (엑셀 너비 단위)
+     */
+    public int[] computeWidths() {
+        int[] maxChars = new int[columnCount];
+        for (int i = 0; i < size; i++) {
+            if (isMerged(rows[i], columns[i])) continue;
+            if (charWidths[i] > maxChars[columns[i]]) {
+                maxChars[columns[i]] = charWidths[i];
+            }
+        }
+
+        int[] widths = new int[columnCount];
+        for (int col = 0; col < columnCount; col++) {
+            widths[col] = maxChars[col] == 0 ? 0 : Math.min(MAX_COLUMN_WIDTH, (maxChars[col] + 1) * UNITS_PER_CHAR);
+        }
+        return widths;
+    }
+
+    /**
+     * 추정 너비를 시트에 적용
+     * @param minWidth 최소 너비 (미만이면 minWidth 로 설정)
+     * @param maxWidth 최대 너비 (초과하면 overflowWidth 로 설정)
+     * @param overflowWidth 최대 너비를 넘었을 때 적용할 너비
+     */
+    public void applyTo(Sheet sheet, int minWidth, int maxWidth, int overflowWidth) {
+        int[] widths = resolveWidths(minWidth, maxWidth, overflowWidth);
+        for (int col = 0; col < columnCount; col++) {
+            if (widths[col] >= 0) {
+                sheet.setColumnWidth(col, widths[col]);
+            }
+        }
+    }
+
+    /**
+     * {@link #applyTo(Sheet, int, int, int)} 와 같은 규칙으로 계산한 컬럼별 너비 (-1 이면 기본 너비 유지)
+     */
+    public int[] resolveWidths(int minWidth, int maxWidth, int overflowWidth) {
+        int[] widths = computeWidths();
+        for (int col = 0; col < columnCount; col++) {
+            int width = widths[col];
+            if (width == 0 && minWidth == 0) {
+                // autoSizeColumn 과 동일하게 값이 없는 컬럼은 기본 너비 유지
+                widths[col] = -1;
+                continue;
+            }
+            if (width < minWidth) {
+                width = minWidth;
+            }
+            if (width > maxWidth) {
+                width = overflowWidth;
+            }
+            widths[col] = width;
+        }
+        return widths;
+    }
+
+    /**
+     * 추정 너비를 그대로 시트에 적용 (너비 제한 없음)
+     */
+    public void applyTo(Sheet sheet) {
+        applyTo(sheet, 0, MAX_COLUMN_WIDTH, MAX_COLUMN_WIDTH);
+    }
+
+    /**
+     * 다음 시트 작성을 위해 기록 초기화
+     */
+    public void reset() {
+        size = 0;
+        mergedColumnsByRow.clear();
+    }
+
+    private boolean isMerged(int row, int column) {
+        List<int[]> ranges = mergedColumnsByRow.get(row);
+        if (ranges == null) return false;
+        for (int[] range : ranges) {
+            if (column >= range[0] && column <= range[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 텍스트 표시 너비 (문자 칸 수). 여러 줄이면 가장 긴 줄 기준.
+     */
+    public static int displayWidth(String text) {
+        int max = 0;
+        int current = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                max = Math.max(max, current);
+                current = 0;
+            } else if (c == '\r') {
+                // 무시
+            } else if (Character.isHighSurrogate(c)) {
+                // 보조 평면 문자(이모지, 확장 한자)는 전각으로 취급하고 low surrogate 는 건너뜀
+                current += 2;
+                i++;
+            } else {
+                current += isWide(c) ? 2 : 1;
+            }
+        }
+        return Math.max(max, current);
+    }
+
+    /**
+     * 전각(2칸) 문자 여부
+     */
+    static boolean isWide(char c) {
+        if (c < 0x1100) return false;
+        return (c <= 0x115F)                    // 한글 자모
+                || (c >= 0x2E80 && c <= 0x303E)  // CJK 부수, 기호
+                || (c >= 0x3041 && c <= 0x33FF)  // 히라가나, 가타카나, 한글 호환 자모, CJK 호환
+                || (c >= 0x3400 && c <= 0x4DBF)  // CJK 확장 A
+                || (c >= 0x4E00 && c <= 0x9FFF)  // CJK 통합 한자
+                || (c >= 0xA960 && c <= 0xA97F)  // 한글 자모 확장 A
+                || (c >= 0xAC00 && c <= 0xD7A3)  // 한글 음절
+                || (c >= 0xF900 && c <= 0xFAFF)  // CJK 호환 한자
+                || (c >= 0xFE30 && c <= 0xFE4F)  // CJK 호환 형태
+                || (c >= 0xFF00 && c <= 0xFF60)  // 전각 ASCII
+                || (c >= 0xFFE0 && c <= 0xFFE6); // 전각 기호
+    }
+}
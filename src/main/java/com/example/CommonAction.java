@@ -1,9 +1,11 @@
 package com.example;
 
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.psi.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class CommonAction {
     public static List<String> generateLogicDescriptionsBiz(PsiMethod method) {
@@ -40,6 +42,28 @@ public class CommonAction {
          * @param isController 컨트롤러 메소드인지 여부 (true면 서비스 메소드도 분석)
          */
     public static List<String> generateLogicDescriptions(PsiMethod method, boolean isController) {
+        return generateLogicDescriptions(method, new LogicAnalysisContext(isController ? 1 : 0));
+    }
+
+    /**
+     * 가이드 생성 1회 동안 분석 결과를 공유하는 로직 설명 생성
+     * 서비스 메소드 호출은 context 의 최대 깊이까지 따라 들어가 분석한다. (0이면 따라 들어가지 않음)
+     * @param context 서비스 메소드 분석 결과 저장, 순환 호출 감지, 깊이 제한
+     */
+    public static List<String> generateLogicDescriptions(PsiMethod method, LogicAnalysisContext context) {
+        // 시작 메소드도 분석 중으로 표시 (서비스가 다시 호출하는 경우 순환으로 처리)
+        boolean entered = context.enter(method);
+        try {
+            return describeMethod(method, context.getMaxDepth(), context);
+        } finally {
+            if (entered) context.exit(method);
+        }
+    }
+
+    /**
+     * @param remainingDepth 0보다 크면 서비스 메소드 호출을 따라 들어가 분석
+     */
+    private static List<String> describeMethod(PsiMethod method, int remainingDepth, LogicAnalysisContext context) {
         List<String> descriptions = new ArrayList<>();
 
         if (method.getBody() == null) {
@@ -53,7 +77,7 @@ public class CommonAction {
         int stepNumber = 1;
 
         for (PsiStatement statement : statements) {
-            String description = analyzeStatement(statement, stepNumber, isController);
+            String description = analyzeStatement(statement, stepNumber, remainingDepth, context);
             if (!description.isEmpty()) {
                 descriptions.add(description);
                 stepNumber++;
@@ -69,7 +93,7 @@ public class CommonAction {
     /**
      * 개별 Statement를 분석하여 로직 설명 생성
      */
-    private static String analyzeStatement(PsiStatement statement, int stepNumber, boolean isController) {
+    private static String analyzeStatement(PsiStatement statement, int stepNumber, int remainingDepth, LogicAnalysisContext context) {
         if (statement == null) return "";
 
         String statementText = statement.getText().trim();
@@ -82,7 +106,7 @@ public class CommonAction {
         if (statement instanceof PsiDeclarationStatement) {
             return analyzeDeclarationStatement((PsiDeclarationStatement) statement);
         } else if (statement instanceof PsiExpressionStatement) {
-            return analyzeExpressionStatement((PsiExpressionStatement) statement, isController);
+            return analyzeExpressionStatement((PsiExpressionStatement) statement, remainingDepth, context);
         } else if (statement instanceof PsiIfStatement) {
             return analyzeIfStatement((PsiIfStatement) statement);
         } else if (statement instanceof PsiForStatement) {
@@ -124,7 +148,7 @@ public class CommonAction {
     /**
      * 표현식문 분석 (서비스 메소드 분석 기능 추가)
      */
-    private static String analyzeExpressionStatement(PsiExpressionStatement statement, boolean isController) {
+    private static String analyzeExpressionStatement(PsiExpressionStatement statement, int remainingDepth, LogicAnalysisContext context) {
         PsiExpression expression = statement.getExpression();
 
         if (expression instanceof PsiMethodCallExpression) {
@@ -154,8 +178,8 @@ public class CommonAction {
                 }
 
                 // 컨트롤러일 경우 서비스 메소드 분석 추가
-                if (isController && isServiceMethodCall(methodCall)) {
-                    String serviceAnalysis = analyzeServiceMethod(methodCall);
+                if (remainingDepth > 0 && isServiceMethodCall(methodCall)) {
+                    String serviceAnalysis = analyzeServiceMethod(methodCall, remainingDepth, context);
                     if (!serviceAnalysis.isEmpty()) {
                         result.append("\n    └─ 서비스 로직 분석:\n").append(serviceAnalysis);
                     }
@@ -167,12 +191,12 @@ public class CommonAction {
             PsiAssignmentExpression assignment = (PsiAssignmentExpression) expression;
             
             // 할당문에서 서비스 메소드 호출 확인
-            if (isController && assignment.getRExpression() instanceof PsiMethodCallExpression) {
+            if (remainingDepth > 0 && assignment.getRExpression() instanceof PsiMethodCallExpression) {
                 PsiMethodCallExpression methodCall = (PsiMethodCallExpression) assignment.getRExpression();
                 StringBuilder result = new StringBuilder("변수 할당 처리");
                 
                 if (isServiceMethodCall(methodCall)) {
-                    String serviceAnalysis = analyzeServiceMethod(methodCall);
+                    String serviceAnalysis = analyzeServiceMethod(methodCall, remainingDepth, context);
                     if (!serviceAnalysis.isEmpty()) {
                         result.append("\n    └─ 서비스 로직 분석:\n").append(serviceAnalysis);
                     }
@@ -208,13 +232,28 @@ public class CommonAction {
 
     /**
      * 서비스 메소드 분석
+     * 같은 서비스 메소드는 생성 1회 동안 한 번만 분석하고, 순환 호출은 분석하지 않는다.
      */
-    private static String analyzeServiceMethod(PsiMethodCallExpression methodCall) {
+    private static String analyzeServiceMethod(PsiMethodCallExpression methodCall, int remainingDepth, LogicAnalysisContext context) {
         try {
-            PsiMethod serviceMethod = (PsiMethod) methodCall.resolveMethod();
+            PsiMethod serviceMethod = methodCall.resolveMethod();
             if (serviceMethod != null && serviceMethod.getBody() != null) {
-                List<String> serviceDescriptions = generateLogicDescriptions(serviceMethod, false);
-                
+                int nestedDepth = remainingDepth - 1;
+                List<String> serviceDescriptions = context.getMemo(serviceMethod, nestedDepth);
+                if (serviceDescriptions == null) {
+                    if (!context.enter(serviceMethod)) {
+                        return "      순환 호출: " + serviceMethod.getName() + " (분석 생략)";
+                    }
+                    Set<PsiMethod> reached;
+                    try {
+                        serviceDescriptions = describeMethod(serviceMethod, nestedDepth, context);
+                    } finally {
+                        reached = context.exit(serviceMethod);
+                    }
+                    // 순환 호출을 생략한 결과는 분석 경로에 따라 다르므로 저장하지 않음
+                    context.putMemo(serviceMethod, nestedDepth, serviceDescriptions, reached);
+                }
+
                 StringBuilder result = new StringBuilder();
                 for (int i = 0; i < serviceDescriptions.size(); i++) {
                     result.append("      ").append(i + 1).append(". ").append(serviceDescriptions.get(i));
@@ -224,6 +263,9 @@ public class CommonAction {
                 }
                 return result.toString();
             }
+        } catch (ProcessCanceledException e) {
+            // read action 취소는 그대로 전달 (추출 재시도)
+            throw e;
         } catch (Exception e) {
             return "      서비스 메소드 분석 중 오류 발생";
         }
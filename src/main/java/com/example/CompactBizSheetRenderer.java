@@ -0,0 +1,219 @@
+package com.example;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+
+import java.util.List;
+
+/**
+ * Biz 가이드 압축 레이아웃 렌더링 단계
+ * API 마다 시트를 만드는 대신 모든 API 를 한 시트에 행 묶음으로 작성한다. (API 수가 많을 때 생성/열기 속도용)
+ *
+ * - 1행: 고정(틀 고정) 헤더
+ * - API 1개 = 요약 행 1개 + 상세 행 (윤곽 수준 1로 묶어 접고 펼 수 있음)
+ * - 상세 행은 시트 레이아웃과 같은 항목(Logic 설명, 파라미터, 요청예시, Response JSON, Response JSON Sample)을
+ *   B열부터 섹션별 소제목 행 + 데이터 행으로 작성하고, 여러 줄 텍스트는 한 셀에 담는다.
+ * - 시트 최대 행 수를 넘으면 다음 시트로 이어서 작성
+ */
+public class CompactBizSheetRenderer {
+
+    private static final String SHEET_NAME = "API 목록";
+
+    private static final String[] HEADERS = {
+            "API Name", "Http Method", "URL", "API 설명", "API 상세 설명",
+            "Controller Class / Method", "Service Class / Method", "Repository Class"
+    };
+
+    /** 컬럼 너비 (문자 수) - 값을 측정하지 않고 고정 */
+    private static final int[] COLUMN_WIDTHS = {
+            30, 22, 40, 40, 40,
+            40, 40, 30
+    };
+
+    /** 엑셀 셀 최대 문자 수 */
+    private static final int MAX_CELL_LENGTH = 32767;
+
+    private final StreamingWorkbook workbook;
+    private final int maxRowsPerSheet;
+
+    private final CellStyle headerStyle;
+    private final CellStyle summaryStyle;
+    private final CellStyle categoryStyle;
+    private final CellStyle dataStyle;
+
+    private SXSSFSheet sheet;
+    private int sheetCount;
+    private int rowNum;
+
+    public CompactBizSheetRenderer(StreamingWorkbook workbook) {
+        this(workbook, SpreadsheetVersion.EXCEL2007.getMaxRows());
+    }
+
+    /**
+     * @param maxRowsPerSheet 시트 1개의 최대 행 수 (헤더 포함, 넘으면 다음 시트에 이어서 작성)
+     */
+    public CompactBizSheetRenderer(StreamingWorkbook workbook, int maxRowsPerSheet) {
+        this.workbook = workbook;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+
+        StyleRegistry styles = new StyleRegistry(workbook);
+        StyleRegistry.Spec bordered = StyleRegistry.Spec.PLAIN.border(BorderStyle.THIN).wrap();
+        this.headerStyle = styles.get(bordered.boldFont()
+                .fill(IndexedColors.GREY_25_PERCENT.getIndex())
+                .align(HorizontalAlignment.CENTER, VerticalAlignment.CENTER));
+        this.summaryStyle = styles.get(bordered.boldFont().align(HorizontalAlignment.LEFT, VerticalAlignment.TOP));
+        this.categoryStyle = styles.get(bordered.boldFont()
+                .fill(IndexedColors.GREY_25_PERCENT.getIndex())
+                .align(HorizontalAlignment.CENTER, VerticalAlignment.TOP));
+        this.dataStyle = styles.get(bordered.align(HorizontalAlignment.LEFT, VerticalAlignment.TOP));
+
+        // API 가 없어도 헤더만 있는 시트 1개는 생성
+        startSheet();
+    }
+
+    /**
+     * API 1개를 요약 행 + 상세 행 묶음으로 렌더링
+     */
+    public void render(BizApiDescriptor api) {
+        if (rowNum + blockRows(api) > maxRowsPerSheet) {
+            workbook.finishSheet(sheet);
+            startSheet();
+        }
+
+        // 요약 행
+        Row summary = sheet.createRow(rowNum++);
+        setCell(summary, 0, api.methodName(), summaryStyle);
+        setCell(summary, 1, api.httpMethod(), summaryStyle);
+        setCell(summary, 2, api.urlPath(), summaryStyle);
+        setCell(summary, 3, api.description(), summaryStyle);
+        setCell(summary, 4, api.detailDescription(), summaryStyle);
+        setCell(summary, 5, api.controllerClassName() + " / " + api.methodName(), summaryStyle);
+        setCell(summary, 6, api.serviceInfo(), summaryStyle);
+        setCell(summary, 7, api.repositoryInfo(), summaryStyle);
+
+        // Logic 설명 (메서드/Core 클래스/Core 메소드는 시트 레이아웃과 같은 규칙으로 채움)
+        detailRow("Logic 설명", categoryStyle, "로직단계유형", "메서드", "Core 클래스", "Core 메소드");
+        List<String> logicDescriptions = api.logicDescriptions();
+        String coreClass = api.inCorePackage() ? api.controllerClassName() : "";
+        for (int i = 0; i < Math.max(logicDescriptions.size(), 2); i++) {
+            detailRow("", dataStyle,
+                    i < logicDescriptions.size() ? logicDescriptions.get(i) : "",
+                    i == 0 ? "Controller" : i == 1 ? "Service" : "",
+                    i == 1 ? "CrudService" : coreClass,
+                    i == 0 ? api.methodName() : i == 1 ? returnPropertMethod(api.methodName()) : "");
+        }
+
+        // 파라미터
+        List<ParameterDescriptor> parameters = api.parameters();
+        detailRow("파라미터", categoryStyle, "속성", "타입", "필수여부", "설명");
+        for (int i = 0; i < parameters.size(); i++) {
+            ParameterDescriptor param = parameters.get(i);
+            detailRow("", dataStyle, param.name(), param.type(), param.required(),
+                    i == 0 ? param.description() : param.name().equals("saveHist") ? "이력 저장 여부" : "");
+        }
+
+        // 요청예시
+        detailRow("요청예시", categoryStyle);
+        detailRow("", dataStyle, api.requestExample());
+
+        // Response JSON
+        detailRow("Response JSON", categoryStyle, "Element", "Type", "Content", "Description");
+        detailRow("", dataStyle, getResponseElement(api.methodName()), getResponseType(api.methodName()),
+                getResponseContent(api.methodName()), api.responseDescription());
+
+        // Response JSON Sample
+        detailRow("Response JSON Sample", categoryStyle);
+        detailRow("", dataStyle, api.responseJsonSample());
+    }
+
+    // 요약 행 1 + Logic (소제목 1 + 최소 2) + 파라미터 (소제목 1 + 개수) + 요청예시 2 + Response JSON 2 + Sample 2
+    private int blockRows(BizApiDescriptor api) {
+        return 1 + 1 + Math.max(api.logicDescriptions().size(), 2) + 1 + api.parameters().size() + 6;
+    }
+
+    private void startSheet() {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? SHEET_NAME : SHEET_NAME + " (" + sheetCount + ")");
+        for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+            sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
+        }
+        // 접기/펼치기 버튼을 상세 행 위의 요약 행에 표시
+        sheet.setRowSumsBelow(false);
+        sheet.createFreezePane(0, 1);
+
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            setCell(header, i, HEADERS[i], headerStyle);
+        }
+        rowNum = 1;
+    }
+
+    // 상세 행 (윤곽 수준 1): A열은 비우고 B열에 섹션명, C열부터 값
+    private void detailRow(String section, CellStyle style, String... values) {
+        Row row = sheet.createRow(rowNum);
+        setCell(row, 1, section, categoryStyle);
+        for (int i = 0; i < values.length; i++) {
+            setCell(row, i + 2, values[i], style);
+        }
+        // 스트리밍 시트는 메모리에 남아 있는 행만 묶을 수 있으므로 행을 만들 때 바로 지정
+        sheet.setRowOutlineLevel(rowNum, 1);
+        rowNum++;
+    }
+
+    private static void setCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        if (value != null && !value.isEmpty()) {
+            cell.setCellValue(value.length() > MAX_CELL_LENGTH ? value.substring(0, MAX_CELL_LENGTH) : value);
+        }
+        cell.setCellStyle(style);
+    }
+
+    private String returnPropertMethod(String methodName) {
+        methodName = methodName.toLowerCase(); // 소문자 변환
+
+        if (methodName.contains("realdelete")) {
+            return "realdeleteEntities";
+        } else if (methodName.contains("undelete")) {
+            return "undeleteEntities";
+        } else if (methodName.contains("delete")) {
+            return "deleteEntities";
+        } else if (methodName.contains("create")) {
+            return "createEntities";
+        } else if (methodName.contains("update")) {
+            return "updateEntities";
+        } else {
+            return "getCustomQueryPredicates";
+        }
+    }
+
+    private String getResponseType(String methodName) {
+        if (methodName.equals("getCustomQueryPredicates")) {
+            return "List";
+        } else {
+            return "String";
+        }
+    }
+
+    private String getResponseElement(String methodName) {
+        if (methodName.equals("getCustomQueryPredicates")) {
+            return "ResponseEntity";
+        } else {
+            return "return String";
+        }
+    }
+
+    private String getResponseContent(String methodName) {
+        if (methodName.equals("getCustomQueryPredicates")) {
+            return "객체 Object 배열";
+        } else {
+            return "Success";
+        }
+    }
+}
@@ -1,246 +1,260 @@
 package com.example;
 
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.psi.*;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.ss.util.RegionUtil;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.example.CommonAction.generateLogicDescriptions;
 
 public class CoreExcelExporter {
 
-    private final Set<String> usedSheetNames = new HashSet<>();
+    private final GuideExportOptions options;
 
-    public void exportControllerExcel(File outputFile, List<PsiClass> services) throws Exception {
-        Workbook workbook = new XSSFWorkbook();
-
-        // 스타일 생성
-        CellStyle grayHeaderStyle = createGrayHeaderStyle(workbook);
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle categoryStyle = createCategoryStyle(workbook, true);
-        CellStyle firstColumnCategoryStyle = createFirstColumnCategoryStyle(workbook);
-
-        for (PsiClass serviceClazz : services) {
-            for (PsiMethod method : serviceClazz.getMethods()) {
-//                if (!isCoreMethod(method)) continue;
-
-                // 시트 이름으로 API 이름 사용
-                String sheetName = sanitizeSheetName(method.getName());
-                Sheet sheet = workbook.createSheet(sheetName);
-                int rowNum = 0;
+    public CoreExcelExporter() {
+        this(new GuideExportOptions());
+    }
 
-                // 메인 헤더 생성 (A1:G4)
-                createMainHeaders(sheet, grayHeaderStyle, dataStyle, rowNum, method);
-                rowNum = 4;
+    public CoreExcelExporter(GuideExportOptions options) {
+        this.options = options;
+    }
 
-                // Logic 설명 섹션
-                rowNum = createLogicSection(sheet, method, rowNum, dataStyle, categoryStyle, firstColumnCategoryStyle);
+    public void exportControllerExcel(File outputFile, List<PsiClass> services) throws Exception {
+        exportControllerExcel(outputFile, services, new EmptyProgressIndicator());
+    }
 
-                // 파라미터 섹션
-                rowNum = createParameterSection(sheet, method, rowNum, dataStyle, categoryStyle);
+    /**
+     * 백그라운드 작업에서 호출되는 엑셀 생성
+     * PSI 접근은 메소드 단위의 짧은 read action(추출)으로 나누어 여러 스레드에서 수행하고,
+     * 시트 렌더링은 read action 밖에서 추출 결과가 나오는 대로 수행한다.
+     * 취소 시 생성 중인 파일을 삭제한다.
+     */
+    public void exportControllerExcel(File outputFile, List<PsiClass> services, ProgressIndicator indicator) throws Exception {
+        // 진행률 계산용 메소드 수집
+        List<PsiMethod> coreMethods = new ArrayList<>();
+        for (PsiClass serviceClazz : services) {
+            indicator.checkCanceled();
+            ReadAction.run(() -> {
+                for (PsiMethod method : serviceClazz.getMethods()) {
+//                        if (!isCoreMethod(method)) continue;
+                    coreMethods.add(method);
+                }
+            });
+        }
 
-                // 반환 타입 섹션
-                rowNum = createReturnTypeSection(sheet, method, rowNum, dataStyle, categoryStyle);
+        if (options.useSharding()) {
+            exportShards(outputFile, coreMethods, indicator);
+            return;
+        }
 
-                // 컬럼 너비 조정 (A~G열)
-                for (int i = 0; i < 7; i++) {
-                    sheet.autoSizeColumn(i);
-                    if (sheet.getColumnWidth(i) < 2500) {
-                        sheet.setColumnWidth(i, 2500);
-                    }
-                    if (sheet.getColumnWidth(i) > 8000) {
-                        sheet.setColumnWidth(i, 8000);
-                    }
-                }
+        boolean completed = false;
+        try {
+            writeWorkbook(outputFile, coreMethods.size(), indicator, renderer -> renderSheets(coreMethods, indicator, renderer));
+            completed = true;
+        } finally {
+            if (!completed) {
+                // 취소 또는 오류 시 불완전한 파일을 남기지 않음
+                outputFile.delete();
             }
         }
+    }
 
-        // 파일 저장
-        try (FileOutputStream fos = new FileOutputStream(outputFile)) {
-            workbook.write(fos);
+    /**
+     * 워크북 1개 생성 (생성 방식은 옵션과 메소드 수로 결정)
+     * @param source 렌더러를 받아 메소드 정보를 순서대로 전달
+     */
+    private void writeWorkbook(File outputFile, int methodCount, ProgressIndicator indicator,
+                               Consumer<Consumer<CoreMethodDescriptor>> source) throws IOException {
+        if (options.useCompactLayout(methodCount)) {
+            // 모든 메소드를 한 시트에 행 묶음으로 작성 (메소드 수만큼 시트 XML 파트를 만들지 않음)
+            StreamingWorkbook workbook = new StreamingWorkbook(options.getStreamingRowWindow());
+            try {
+                source.accept(new CompactCoreSheetRenderer(workbook)::render);
+                indicator.setText2("엑셀 파일 저장 중...");
+
+                // 파일 저장
+                try (FileOutputStream fos = new FileOutputStream(outputFile)) {
+                    workbook.write(fos);
+                }
+            } finally {
+                workbook.close();
+            }
+        } else if (options.useDirectWriter()) {
+            // POI 객체 모델 없이 시트 XML 을 바로 파일로 작성
+            try (SpreadsheetMLWriter writer = new SpreadsheetMLWriter(new BufferedOutputStream(new FileOutputStream(outputFile)))) {
+                source.accept(new DirectCoreSheetRenderer(writer)::render);
+                indicator.setText2("엑셀 파일 저장 중...");
+            }
+        } else if (options.useTemplate(methodCount)) {
+            // 고정 영역은 템플릿 골격 시트를 복제하고 가변 셀만 작성
+            try (XSSFWorkbook workbook = GuideTemplate.open()) {
+                source.accept(CoreSheetRenderer.fromTemplate(workbook)::render);
+                GuideTemplate.removeTemplateSheets(workbook);
+                indicator.setText2("엑셀 파일 저장 중...");
+
+                // 파일 저장
+                try (FileOutputStream fos = new FileOutputStream(outputFile)) {
+                    workbook.write(fos);
+                }
+            }
+        } else {
+            // 메소드 수가 많으면 행 일부만 메모리에 유지하는 스트리밍 워크북 사용
+            Workbook workbook = options.useStreaming(methodCount)
+                    ? new StreamingWorkbook(options.getStreamingRowWindow())
+                    : new XSSFWorkbook();
+            try {
+                source.accept(new CoreSheetRenderer(workbook)::render);
+                indicator.setText2("엑셀 파일 저장 중...");
+
+                // 파일 저장
+                try (FileOutputStream fos = new FileOutputStream(outputFile)) {
+                    workbook.write(fos);
+                }
+            } finally {
+                workbook.close();
+            }
         }
-        workbook.close();
     }
 
-    private String sanitizeSheetName(String name) {
-        String sanitized = name.replaceAll("[\\\\/?*\\[\\]]", "");
-        if (sanitized.length() > 31) {
-            sanitized = sanitized.substring(0, 31);
-        }
+    /**
+     * 샤드 워크북 여러 개 + 목차 워크북(outputFile) 생성
+     * 샤드 단위로 추출(현재 스레드, 메소드는 여러 스레드)이 끝나는 대로 다른 스레드에서 렌더링/저장하므로,
+     * 앞 샤드의 저장과 다음 샤드의 추출, 여러 샤드의 저장이 서로 겹쳐 진행된다.
+     */
+    private void exportShards(File outputFile, List<PsiMethod> coreMethods, ProgressIndicator indicator) throws Exception {
+        List<WorkbookShards.Shard<PsiMethod>> shards = ReadAction.compute(() ->
+                WorkbookShards.plan(coreMethods, this::shardKey, options.getShardSize()));
+
+        List<WorkbookShards.Entry> entries = new ArrayList<>();
+        // 샤드 작성 스레드는 진행 표시를 바꾸지 않고 취소만 전달받음 (진행 표시는 추출 단계가 사용)
+        ProgressIndicator writerIndicator = new EmptyProgressIndicator();
+        int extracted = 0;
+        boolean completed = false;
+        try (WorkbookShards.Writer shardWriter = new WorkbookShards.Writer(
+                AppExecutorUtil.createBoundedApplicationPoolExecutor("NexGen Guide Shard Writer", options.getShardThreads()),
+                options.getShardThreads())) {
+            for (WorkbookShards.Shard<PsiMethod> shard : shards) {
+                indicator.checkCanceled();
+                indicator.setText("메소드 정보 추출 중... (" + shard.number() + "/" + shards.size() + ")");
+
+                List<CoreMethodDescriptor> methods = new ArrayList<>();
+                renderSheets(shard.items(), indicator, extracted, coreMethods.size(), methods::add);
+                extracted += shard.items().size();
+                if (methods.isEmpty()) continue;
+
+                File shardFile = WorkbookShards.shardFile(outputFile, shard, shards.size());
+                shardWriter.submit(shardFile, file -> writeWorkbook(file, methods.size(), writerIndicator, renderer -> {
+                    for (CoreMethodDescriptor core : methods) {
+                        writerIndicator.checkCanceled();
+                        renderer.accept(core);
+                    }
+                }), indicator::checkCanceled);
+                entries.add(new WorkbookShards.Entry(shardFile, shard.key(), methods.size(),
+                        methods.get(0).methodName(), methods.get(methods.size() - 1).methodName()));
+            }
 
-        String uniqueName = sanitized;
-        int counter = 1;
-        while (usedSheetNames.contains(uniqueName)) {
-            uniqueName = sanitized.substring(0, Math.min(28, sanitized.length())) + "_" + counter;
-            counter++;
+            indicator.setText("엑셀 파일 저장 중...");
+            shardWriter.awaitAll(indicator::checkCanceled);
+            WorkbookShards.writeIndex(outputFile, entries);
+            shardWriter.complete();
+            completed = true;
+        } finally {
+            if (!completed) {
+                // 취소 또는 오류 시 샤드 파일은 Writer 가 삭제, 목차도 남기지 않음
+                writerIndicator.cancel();
+                outputFile.delete();
+            }
         }
+    }
 
-        usedSheetNames.add(uniqueName);
-        return uniqueName;
+    // 샤드 구분 키 (read action 안에서 호출)
+    private String shardKey(PsiMethod method) {
+        PsiClass serviceClazz = method.getContainingClass();
+        if (serviceClazz == null) return "";
+        switch (options.getShardBy()) {
+            case CLASS:
+                return Objects.requireNonNullElse(serviceClazz.getQualifiedName(), "");
+            case PACKAGE:
+                return Objects.requireNonNullElse(PsiUtil.getPackageName(serviceClazz), "");
+            default:
+                return "";
+        }
     }
 
-    private void createMainHeaders(Sheet sheet, CellStyle headerStyle, CellStyle dataStyle, int startRow, PsiMethod method) {
-        // 첫 번째 행: API Name
-        Row row1 = sheet.createRow(startRow);
-        createCell(row1, 0, "API Name", headerStyle);
-        createCell(row1, 1, method.getName(), dataStyle);
-        createEmptyCells(row1, 2, 5, dataStyle);
-        sheet.addMergedRegion(new CellRangeAddress(startRow, startRow, 1, 5));
-
-        // 두 번째 행: 서비스명
-        Row row2 = sheet.createRow(startRow + 1);
-        createCell(row2, 0, "서비스명", headerStyle);
-        createCell(row2, 1, getServiceName(method), dataStyle);
-        createEmptyCells(row2, 2, 5, dataStyle);
-        sheet.addMergedRegion(new CellRangeAddress(startRow + 1, startRow + 1, 1, 5));
-
-        // 세 번째 행: 기능
-        Row row3 = sheet.createRow(startRow + 2);
-        createCell(row3, 0, "기능", headerStyle);
-        createCell(row3, 1, getDescription(method), dataStyle);
-        createEmptyCells(row3, 2, 5, dataStyle);
-        sheet.addMergedRegion(new CellRangeAddress(startRow + 2, startRow + 2, 1, 5));
-
-        // 네 번째 행: 상세내용
-        Row row4 = sheet.createRow(startRow + 3);
-        createCell(row4, 0, "상세내용", headerStyle);
-        createCell(row4, 1, getDetailDescription(method), dataStyle);
-        createEmptyCells(row4, 2, 5, dataStyle);
-        sheet.addMergedRegion(new CellRangeAddress(startRow + 3, startRow + 3, 1, 5));
+    /**
+     * 추출 단계(PSI -> 불변 모델)는 여러 스레드에서 동시에 수행하고,
+     * 렌더링 단계는 현재 스레드에서 read lock 없이 입력 순서대로 시트 작성 (추출과 겹쳐서 진행)
+     */
+    private void renderSheets(List<PsiMethod> methods, ProgressIndicator indicator, Consumer<CoreMethodDescriptor> renderer) {
+        renderSheets(methods, indicator, 0, methods.size(), renderer);
     }
 
-    private void createEmptyCells(Row row, int fromCol, int toCol, CellStyle style) {
-        for (int col = fromCol; col <= toCol; col++) {
-            createCell(row, col, "", style);
-        }
+    /**
+     * @param progressOffset 앞 샤드에서 추출한 메소드 수 (진행률 표시용)
+     * @param progressTotal 전체 메소드 수
+     */
+    private void renderSheets(List<PsiMethod> methods, ProgressIndicator indicator, int progressOffset, int progressTotal,
+                              Consumer<CoreMethodDescriptor> renderer) {
+        // 여러 메소드에서 호출되는 서비스 메소드는 이번 생성에서 한 번만 분석
+        LogicAnalysisContext logicContext = new LogicAnalysisContext(options.getLogicAnalysisDepth());
+
+        ParallelExtractor.extractInOrder(methods, method -> {
+            PsiClass serviceClazz = method.getContainingClass();
+            indicator.setText2((serviceClazz != null ? serviceClazz.getName() + "." : "") + method.getName());
+            return GuideExtractionCache.cached(options, DescriptorCodec.CORE, method, () -> extractMethod(method, logicContext));
+        }, options.getExtractionThreads(), options.getPipelineQueueSize(), indicator, progressOffset, progressTotal, renderer);
+
+        indicator.checkCanceled();
+        indicator.setFraction((double) (progressOffset + methods.size()) / Math.max(1, progressTotal));
     }
 
-    private int createLogicSection(Sheet sheet, PsiMethod method, int startRow, CellStyle dataStyle, CellStyle categoryStyle, CellStyle firstColumnCategoryStyle) {
-        int currentRow = startRow;
-
-        // Logic 설명 헤더
-        Row headerRow = sheet.createRow(currentRow++);
-        createCell(headerRow, 0, "Logic 설명", categoryStyle);
-        createEmptyCells(headerRow, 1, 5, firstColumnCategoryStyle);
-        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 5);
-        sheet.addMergedRegion(region);
-        RegionUtil.setBorderRight(BorderStyle.THIN, region, sheet);
-
-        // 밑에
-        Row row1 = sheet.createRow(currentRow++);
-        createCell(row1, 0, "번호", categoryStyle);
-        createCell(row1, 1, "내용", categoryStyle);
-        createCell(row1, 2, "비고", categoryStyle);
-        createEmptyCells(row1, 3, 5, categoryStyle);
-        sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 2, 5));
-
-        // MOS_CORE 모듈 메소드인 경우 로직 분석하여 생성
-//        if (isCoreMethod(method)) {
-            List<String> logicDescriptions = generateLogicDescriptions(method, false);
-            
-            for (int i = 0; i < Math.max(logicDescriptions.size(), 2); i++) {
-                Row dataRow = sheet.createRow(currentRow++);
-//                createCell(dataRow, 0, "", dataStyle);
-                createCell(dataRow, 0, String.valueOf(i + 1), dataStyle);
-                createCell(dataRow, 1, i < logicDescriptions.size() ? logicDescriptions.get(i) : "", dataStyle);
-                createCell(dataRow, 2, "", dataStyle);
-                createEmptyCells(dataRow, 3, 5, dataStyle);
-                sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 2, 5));
-            }
-        return currentRow;
+    /**
+     * 메소드 1개의 시트 내용을 PSI 에서 추출 (read action 안에서 호출)
+     */
+    CoreMethodDescriptor extractMethod(PsiMethod method, LogicAnalysisContext logicContext) {
+        return new CoreMethodDescriptor(
+                method.getName(),
+                getServiceName(method),
+                getDescription(method),
+                getDetailDescription(method),
+                generateLogicDescriptions(method, logicContext),
+                getParameters(method),
+                getReturnType(method)
+        );
     }
 
-    private int createParameterSection(Sheet sheet, PsiMethod method, int startRow, CellStyle dataStyle, CellStyle categoryStyle) {
-        int currentRow = startRow;
-
-        // 파라미터 헤더
-        Row headerRow = sheet.createRow(currentRow++);
-        createCell(headerRow, 0, "파라미터", categoryStyle);
-        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 5);
-        sheet.addMergedRegion(region);
-        // 테두리 스타일 적용
-        RegionUtil.setBorderRight(BorderStyle.THIN, region, sheet);
-
-        // 파라미터 헤더
-        Row row1 = sheet.createRow(currentRow++);
-//        createCell(headerRow, 0, "파라미터", categoryStyle);
-        createCell(row1, 0, "속성", categoryStyle);
-        createCell(row1, 1, "타입", categoryStyle);
-        createCell(row1, 2, "필수여부", categoryStyle);
-        createCell(row1, 3, "설명", categoryStyle);
-        createCell(row1, 4, "옵션", categoryStyle);
-        createCell(row1, 5, "비고", categoryStyle);
-
-        // 파라미터 데이터
+    private List<ParameterDescriptor> getParameters(PsiMethod method) {
+        List<ParameterDescriptor> parameters = new ArrayList<>();
         String[] paramInfo = getParameterInfoDetailed(method);
-        String[] properties = paramInfo[0].split("\n");
-        String[] types = paramInfo[1].split("\n");
-        String[] required = paramInfo[2].split("\n");
-        String[] descriptions = paramInfo[3].split("\n");
-
-        int maxParams = Math.max(1, Math.max(properties.length, Math.max(types.length, Math.max(required.length, descriptions.length))));
-
-        for (int i = 0; i < Math.max(maxParams, 2); i++) { // 최소 3개 행
-            Row dataRow = sheet.createRow(currentRow++);
-//            createCell(dataRow, 0, "", dataStyle);
-            createCell(dataRow, 0, i < properties.length ? properties[i] : "", dataStyle);
-            createCell(dataRow, 1, i < types.length ? types[i] : "", dataStyle);
-            createCell(dataRow, 2, i < required.length ? required[i] : "", dataStyle);
-            createCell(dataRow, 3, i < descriptions.length ? descriptions[i] : "", dataStyle);
-            createCell(dataRow, 4, "", dataStyle); // 옵션
-            createCell(dataRow, 5, "", dataStyle); // 비고
+        if (paramInfo[0].isEmpty() && paramInfo[1].isEmpty()) {
+            return parameters;
         }
 
-        return currentRow;
-    }
-
-    private int createReturnTypeSection(Sheet sheet, PsiMethod method, int startRow, CellStyle dataStyle, CellStyle categoryStyle) {
-        int currentRow = startRow;
-
-        // 요청예시 헤더
-        Row headerRow = sheet.createRow(currentRow++);
-        createCell(headerRow, 0, "요청예시", categoryStyle);
-        createEmptyCells(headerRow, 1, 5, categoryStyle);
-//        sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
-        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 5);
-        sheet.addMergedRegion(region);
-        // 테두리 스타일 적용
-        RegionUtil.setBorderRight(BorderStyle.THIN, region, sheet);
-
-        // 반환 타입 헤더
-        Row row1 = sheet.createRow(currentRow++);
-//        createCell(headerRow, 0, "반환 타입", categoryStyle);
-        createCell(row1, 0, "타입", categoryStyle);
-        createCell(row1, 1, "Content", categoryStyle);
-        createEmptyCells(row1, 2, 5, categoryStyle);
-        createCell(row1, 3, "비고", categoryStyle);
-        sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 2, 5));
-
-        // 반환 타입 데이터 (3개 행)
-        for (int i = 0; i < 3; i++) {
-            Row dataRow = sheet.createRow(currentRow++);
-//            createCell(dataRow, 0, "", dataStyle);
-            createCell(dataRow, 0, i == 0 ? getReturnType(method) : "", dataStyle);
-            createCell(dataRow, 1, i == 0 ? "Content" : "", dataStyle);
-            createEmptyCells(dataRow, 2, 5, dataStyle);
-            createCell(dataRow, 5, "", dataStyle);
-            sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 2, 5));
+        String[] properties = paramInfo[0].split("\n", -1);
+        String[] types = paramInfo[1].split("\n", -1);
+        String[] required = paramInfo[2].split("\n", -1);
+        String[] descriptions = paramInfo[3].split("\n", -1);
+
+        for (int i = 0; i < properties.length; i++) {
+            parameters.add(new ParameterDescriptor(
+                    properties[i],
+                    i < types.length ? types[i] : "",
+                    i < required.length ? required[i] : "",
+                    i < descriptions.length ? descriptions[i] : ""));
         }
-
-        return currentRow;
-    }
-
-    // 유틸리티 메소드들
-    private void createCell(Row row, int column, String value, CellStyle style) {
-        Cell cell = row.createCell(column);
-        cell.setCellValue(value != null ? value : "");
-        cell.setCellStyle(style);
+        return parameters;
     }
 
     private String getServiceName(PsiMethod method) {
@@ -258,7 +272,7 @@ public class CoreExcelExporter {
     private String getDescription(PsiMethod method) {
         PsiAnnotation operationAnnotation = method.getAnnotation("io.swagger.v3.oas.annotations.Operation");
         if (operationAnnotation != null) {
-            String summary = getAnnotationValue(operationAnnotation, "summary");
+            String summary = AnnotationValueReader.read(operationAnnotation, "summary");
             if (!summary.isEmpty()) {
                 return summary;
             }
@@ -269,7 +283,7 @@ public class CoreExcelExporter {
     private String getDetailDescription(PsiMethod method) {
         PsiAnnotation operationAnnotation = method.getAnnotation("io.swagger.v3.oas.annotations.Operation");
         if (operationAnnotation != null) {
-            String description = getAnnotationValue(operationAnnotation, "description");
+            String description = AnnotationValueReader.read(operationAnnotation, "description");
             if (!description.isEmpty()) {
                 return removeHtmlTags(description);
             }
@@ -307,7 +321,7 @@ public class CoreExcelExporter {
             boolean isRequired = true;
             PsiAnnotation reqParam = param.getAnnotation("org.springframework.web.bind.annotation.RequestParam");
             if (reqParam != null) {
-                String requiredValue = getAnnotationValue(reqParam, "required");
+                String requiredValue = AnnotationValueReader.read(reqParam, "required");
                 isRequired = !requiredValue.equals("false");
             }
             required.add(isRequired ? "필수" : "선택");
@@ -340,40 +354,6 @@ public class CoreExcelExporter {
         return filePath.contains("core");
     }
 
-    private String getAnnotationValue(PsiAnnotation annotation, String attributeName) {
-        if (annotation == null) return "";
-
-        PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue(attributeName);
-        if (value == null) return "";
-
-        if (value instanceof PsiLiteralExpression) {
-            Object literalValue = ((PsiLiteralExpression) value).getValue();
-            return literalValue != null ? literalValue.toString() : "";
-        }
-
-        String rawText = value.getText();
-
-        // 문자열 정리
-        rawText = rawText
-                .replaceAll("^\"|\"$", "")       // 양쪽 따옴표 제거
-                .replace(" + ", "")              // 문자열 연결 연산자 제거
-                .replace("\\n", "\n")            // \n → 실제 개행
-                .replace("\\\"", "\"")           // \" → "
-                .replaceAll("<[^>]*>", "")       // 모든 HTML 태그 제거 (예: <b>, <pre>)
-                .trim();                         // 앞뒤 공백 제거
-
-        // 줄 단위로 정리: 의미 없는 공백 줄 제거
-        StringBuilder cleaned = new StringBuilder();
-        for (String line : rawText.split("\n")) {
-            String trimmed = line.trim();
-            if (!trimmed.isEmpty()) {
-                cleaned.append(trimmed).append("\n");
-            }
-        }
-
-        return cleaned.toString().trim();
-    }
-
     // HTML 태그 제거 유틸리티 메소드
     private String removeHtmlTags(String text) {
         if (text == null || text.isEmpty()) {
@@ -385,82 +365,4 @@ public class CoreExcelExporter {
                 .replaceAll("(?m)^\\s*\\n", "")
                 .trim();
     }
-
-    private CellStyle createGrayHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setColor(IndexedColors.BLACK.getIndex());
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setAlignment(HorizontalAlignment.CENTER);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setWrapText(true);
-        return style;
-    }
-
-    private CellStyle createDataStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setAlignment(HorizontalAlignment.LEFT);
-        style.setVerticalAlignment(VerticalAlignment.TOP);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setWrapText(true);
-        return style;
-    }
-
-    private CellStyle createCategoryStyle(Workbook workbook, boolean isTrue) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setAlignment(HorizontalAlignment.CENTER);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
-        style.setBorderTop(BorderStyle.THIN);
-        if (isTrue) style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setWrapText(true);
-        return style;
-    }
-
-    // 1번째 열 (A열)용 카테고리 스타일
-    private CellStyle createFirstColumnCategoryStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setAlignment(HorizontalAlignment.CENTER);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setWrapText(true);
-        return style;
-    }
-
-    // 1번째 열 (A열)용 데이터 스타일
-    private CellStyle createFirstColumnDataStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setAlignment(HorizontalAlignment.LEFT);
-        style.setVerticalAlignment(VerticalAlignment.TOP);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setWrapText(true);
-        return style;
-    }
 }
@@ -0,0 +1,30 @@
+package com.example;
+
+import java.util.List;
+
+/**
+ * Core 가이드 시트 1개(서비스 메소드 1개)에 필요한 정보
+ * PSI 에서 추출한 문자열 값만 보관하므로 read action 밖에서 렌더링할 수 있다.
+ *
+ * @param methodName        메소드명
+ * @param serviceName       서비스명
+ * @param description       기능 (@Operation summary)
+ * @param detailDescription 상세내용 (@Operation description)
+ * @param logicDescriptions Logic 설명 목록
+ * @param parameters        파라미터 목록
+ * @param returnType        반환 타입 표시명
+ */
+public record CoreMethodDescriptor(
+        String methodName,
+        String serviceName,
+        String description,
+        String detailDescription,
+        List<String> logicDescriptions,
+        List<ParameterDescriptor> parameters,
+        String returnType) {
+
+    public CoreMethodDescriptor {
+        logicDescriptions = List.copyOf(logicDescriptions);
+        parameters = List.copyOf(parameters);
+    }
+}
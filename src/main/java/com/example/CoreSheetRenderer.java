@@ -0,0 +1,369 @@
+package com.example;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Core 가이드 렌더링 단계
+ * {@link CoreMethodDescriptor} 를 시트 1개로 그린다. PSI 에 의존하지 않으므로 IDE 없이도 실행/측정할 수 있다.
+ */
+public class CoreSheetRenderer {
+
+    private final Workbook workbook;
+    private final Set<String> usedSheetNames = new HashSet<>();
+    private final MergePlanner mergePlanner = new MergePlanner();
+    private final ColumnWidthEstimator columnWidths = new ColumnWidthEstimator(7);
+
+    private final CellStyle grayHeaderStyle;
+    private final CellStyle dataStyle;
+    private final CellStyle categoryStyle;
+    private final CellStyle firstColumnCategoryStyle;
+    private final CellStyle rightBorderStyle;
+
+    // 템플릿 모드에서 복제할 골격 시트 번호 (-1 이면 고정 영역도 코드로 작성)
+    private final int skeletonIndex;
+
+    public CoreSheetRenderer(Workbook workbook) {
+        this.workbook = workbook;
+        this.skeletonIndex = -1;
+
+        // 스타일 생성 (속성이 같은 스타일은 하나로 공유)
+        StyleRegistry styles = new StyleRegistry(workbook);
+        this.grayHeaderStyle = createGrayHeaderStyle(styles);
+        this.dataStyle = createDataStyle(styles);
+        this.categoryStyle = createCategoryStyle(styles, true);
+        this.firstColumnCategoryStyle = createFirstColumnCategoryStyle(styles);
+        this.rightBorderStyle = createRightBorderStyle(styles);
+    }
+
+    private CoreSheetRenderer(XSSFWorkbook template, String skeletonName) {
+        this.workbook = template;
+        this.skeletonIndex = GuideTemplate.skeletonIndex(template, skeletonName);
+        usedSheetNames.addAll(List.of(GuideTemplate.sheetNames()));
+
+        // 스타일은 템플릿의 스타일 견본 사용
+        this.grayHeaderStyle = GuideTemplate.sampleStyle(template, GuideTemplate.GRAY_HEADER);
+        this.dataStyle = GuideTemplate.sampleStyle(template, GuideTemplate.DATA);
+        this.categoryStyle = GuideTemplate.sampleStyle(template, GuideTemplate.CATEGORY);
+        this.firstColumnCategoryStyle = GuideTemplate.sampleStyle(template, GuideTemplate.FIRST_COLUMN_CATEGORY);
+        this.rightBorderStyle = GuideTemplate.sampleStyle(template, GuideTemplate.RIGHT_BORDER);
+    }
+
+    /**
+     * 템플릿 모드 렌더러 - 고정 영역(API Name ~ Logic 설명 컬럼 헤더)은 골격 시트를 복제하고 가변 셀만 채운다.
+     * @param template {@link GuideTemplate#open()} 으로 연 워크북 (저장 전 {@link GuideTemplate#removeTemplateSheets} 호출 필요)
+     */
+    public static CoreSheetRenderer fromTemplate(XSSFWorkbook template) {
+        return new CoreSheetRenderer(template, GuideTemplate.CORE_SKELETON);
+    }
+
+    /**
+     * 메소드 1개를 시트 1개로 렌더링
+     */
+    public Sheet render(CoreMethodDescriptor core) {
+        columnWidths.reset();
+
+        // 시트 이름으로 API 이름 사용
+        String sheetName = sanitizeSheetName(core.methodName());
+        Sheet sheet;
+        int rowNum;
+
+        if (skeletonIndex >= 0) {
+            // 고정 영역은 골격 시트를 복제하고 가변 셀만 채움
+            sheet = ((XSSFWorkbook) workbook).cloneSheet(skeletonIndex, sheetName);
+            rowNum = fillSkeleton(sheet, core);
+        } else {
+            sheet = workbook.createSheet(sheetName);
+            rowNum = 0;
+
+            // 메인 헤더 생성 (A1:G4)
+            createMainHeaders(sheet, grayHeaderStyle, dataStyle, rowNum, core);
+            rowNum = 4;
+
+            // Logic 설명 헤더
+            rowNum = createLogicHeader(sheet, rowNum, categoryStyle, firstColumnCategoryStyle);
+        }
+
+        // Logic 설명 섹션
+        rowNum = createLogicSection(sheet, core, rowNum, dataStyle);
+
+        // 파라미터 섹션
+        rowNum = createParameterSection(sheet, core, rowNum, dataStyle, categoryStyle);
+
+        // 반환 타입 섹션
+        rowNum = createReturnTypeSection(sheet, core, rowNum, dataStyle, categoryStyle);
+
+        // 병합 영역은 모아 두었다가 겹침 검사 후 한 번에 추가
+        mergePlanner.commit(sheet);
+
+        // 컬럼 너비 조정 (A~G열) - 셀 생성 시 기록한 문자열 길이로 계산 (autoSizeColumn 대체)
+        columnWidths.applyTo(sheet, 2500, 8000, 8000);
+
+        if (workbook instanceof StreamingWorkbook) {
+            // 완성된 시트는 임시 파일로 내보내고 스트림을 닫아 메모리/파일 핸들을 반환
+            ((StreamingWorkbook) workbook).finishSheet(sheet);
+        }
+        return sheet;
+    }
+
+    private String sanitizeSheetName(String name) {
+        String sanitized = name.replaceAll("[\\\\/?*\\[\\]]", "");
+        if (sanitized.length() > 31) {
+            sanitized = sanitized.substring(0, 31);
+        }
+
+        String uniqueName = sanitized;
+        int counter = 1;
+        while (usedSheetNames.contains(uniqueName)) {
+            uniqueName = sanitized.substring(0, Math.min(28, sanitized.length())) + "_" + counter;
+            counter++;
+        }
+
+        usedSheetNames.add(uniqueName);
+        return uniqueName;
+    }
+
+    private void createMainHeaders(Sheet sheet, CellStyle headerStyle, CellStyle dataStyle, int startRow, CoreMethodDescriptor core) {
+        // 첫 번째 행: API Name
+        Row row1 = sheet.createRow(startRow);
+        createCell(row1, 0, "API Name", headerStyle);
+        createCell(row1, 1, core.methodName(), dataStyle);
+        createEmptyCells(row1, 2, 5, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(startRow, startRow, 1, 5));
+
+        // 두 번째 행: 서비스명
+        Row row2 = sheet.createRow(startRow + 1);
+        createCell(row2, 0, "서비스명", headerStyle);
+        createCell(row2, 1, core.serviceName(), dataStyle);
+        createEmptyCells(row2, 2, 5, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(startRow + 1, startRow + 1, 1, 5));
+
+        // 세 번째 행: 기능
+        Row row3 = sheet.createRow(startRow + 2);
+        createCell(row3, 0, "기능", headerStyle);
+        createCell(row3, 1, core.description(), dataStyle);
+        createEmptyCells(row3, 2, 5, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(startRow + 2, startRow + 2, 1, 5));
+
+        // 네 번째 행: 상세내용
+        Row row4 = sheet.createRow(startRow + 3);
+        createCell(row4, 0, "상세내용", headerStyle);
+        createCell(row4, 1, core.detailDescription(), dataStyle);
+        createEmptyCells(row4, 2, 5, dataStyle);
+        addMergedRegion(sheet, new CellRangeAddress(startRow + 3, startRow + 3, 1, 5));
+    }
+
+    private void createEmptyCells(Row row, int fromCol, int toCol, CellStyle style) {
+        for (int col = fromCol; col <= toCol; col++) {
+            createCell(row, col, "", style);
+        }
+    }
+
+    // 템플릿 골격 시트를 복제한 시트에 메소드 정보 채우기 (createMainHeaders ~ createLogicHeader 와 같은 위치)
+    private int fillSkeleton(Sheet sheet, CoreMethodDescriptor core) {
+        setSkeletonValue(sheet, 0, 1, core.methodName());
+        setSkeletonValue(sheet, 1, 1, core.serviceName());
+        setSkeletonValue(sheet, 2, 1, core.description());
+        setSkeletonValue(sheet, 3, 1, core.detailDescription());
+
+        recordSkeleton(sheet, GuideTemplate.CORE_SKELETON_ROWS);
+        return GuideTemplate.CORE_SKELETON_ROWS;
+    }
+
+    private int createLogicHeader(Sheet sheet, int startRow, CellStyle categoryStyle, CellStyle firstColumnCategoryStyle) {
+        int currentRow = startRow;
+
+        // Logic 설명 헤더
+        Row headerRow = sheet.createRow(currentRow++);
+        createCell(headerRow, 0, "Logic 설명", categoryStyle);
+        createEmptyCells(headerRow, 1, 5, firstColumnCategoryStyle);
+        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 5);
+        addMergedRegion(sheet, region);
+
+        // 밑에
+        Row row1 = sheet.createRow(currentRow++);
+        createCell(row1, 0, "번호", categoryStyle);
+        createCell(row1, 1, "내용", categoryStyle);
+        createCell(row1, 2, "비고", categoryStyle);
+        createEmptyCells(row1, 3, 5, categoryStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 2, 5));
+
+        return currentRow;
+    }
+
+    private int createLogicSection(Sheet sheet, CoreMethodDescriptor core, int startRow, CellStyle dataStyle) {
+        int currentRow = startRow;
+
+        // MOS_CORE 모듈 메소드인 경우 로직 분석하여 생성
+            List<String> logicDescriptions = core.logicDescriptions();
+            
+            for (int i = 0; i < Math.max(logicDescriptions.size(), 2); i++) {
+                Row dataRow = sheet.createRow(currentRow++);
+//                createCell(dataRow, 0, "", dataStyle);
+                createCell(dataRow, 0, String.valueOf(i + 1), dataStyle);
+                createCell(dataRow, 1, i < logicDescriptions.size() ? logicDescriptions.get(i) : "", dataStyle);
+                createCell(dataRow, 2, "", dataStyle);
+                createEmptyCells(dataRow, 3, 5, dataStyle);
+                addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 2, 5));
+            }
+        return currentRow;
+    }
+
+    private int createParameterSection(Sheet sheet, CoreMethodDescriptor core, int startRow, CellStyle dataStyle, CellStyle categoryStyle) {
+        int currentRow = startRow;
+
+        // 파라미터 헤더
+        Row headerRow = sheet.createRow(currentRow++);
+        createCell(headerRow, 0, "파라미터", categoryStyle);
+        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 5);
+        addMergedRegion(sheet, region);
+        // 병합 영역 오른쪽 끝 테두리 (셀이 없는 열이므로 테두리만 있는 빈 셀)
+        createBlankCell(headerRow, 5, rightBorderStyle);
+
+        // 파라미터 헤더
+        Row row1 = sheet.createRow(currentRow++);
+//        createCell(headerRow, 0, "파라미터", categoryStyle);
+        createCell(row1, 0, "속성", categoryStyle);
+        createCell(row1, 1, "타입", categoryStyle);
+        createCell(row1, 2, "필수여부", categoryStyle);
+        createCell(row1, 3, "설명", categoryStyle);
+        createCell(row1, 4, "옵션", categoryStyle);
+        createCell(row1, 5, "비고", categoryStyle);
+
+        // 파라미터 데이터
+        List<ParameterDescriptor> parameters = core.parameters();
+        int maxParams = Math.max(1, parameters.size());
+
+        for (int i = 0; i < Math.max(maxParams, 2); i++) { // 최소 3개 행
+            Row dataRow = sheet.createRow(currentRow++);
+            ParameterDescriptor param = i < parameters.size() ? parameters.get(i) : null;
+            createCell(dataRow, 0, param != null ? param.name() : "", dataStyle);
+            createCell(dataRow, 1, param != null ? param.type() : "", dataStyle);
+            createCell(dataRow, 2, param != null ? param.required() : "", dataStyle);
+            createCell(dataRow, 3, param != null ? param.description() : "", dataStyle);
+            createCell(dataRow, 4, "", dataStyle); // 옵션
+            createCell(dataRow, 5, "", dataStyle); // 비고
+        }
+
+        return currentRow;
+    }
+
+    private int createReturnTypeSection(Sheet sheet, CoreMethodDescriptor core, int startRow, CellStyle dataStyle, CellStyle categoryStyle) {
+        int currentRow = startRow;
+
+        // 요청예시 헤더
+        Row headerRow = sheet.createRow(currentRow++);
+        createCell(headerRow, 0, "요청예시", categoryStyle);
+        createEmptyCells(headerRow, 1, 5, categoryStyle);
+//        sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 6));
+        CellRangeAddress region = new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 5);
+        addMergedRegion(sheet, region);
+
+        // 반환 타입 헤더
+        Row row1 = sheet.createRow(currentRow++);
+//        createCell(headerRow, 0, "반환 타입", categoryStyle);
+        createCell(row1, 0, "타입", categoryStyle);
+        createCell(row1, 1, "Content", categoryStyle);
+        createEmptyCells(row1, 2, 5, categoryStyle);
+        createCell(row1, 3, "비고", categoryStyle);
+        addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 2, 5));
+
+        // 반환 타입 데이터 (3개 행)
+        for (int i = 0; i < 3; i++) {
+            Row dataRow = sheet.createRow(currentRow++);
+//            createCell(dataRow, 0, "", dataStyle);
+            createCell(dataRow, 0, i == 0 ? core.returnType() : "", dataStyle);
+            createCell(dataRow, 1, i == 0 ? "Content" : "", dataStyle);
+            createEmptyCells(dataRow, 2, 5, dataStyle);
+            createCell(dataRow, 5, "", dataStyle);
+            addMergedRegion(sheet, new CellRangeAddress(currentRow - 1, currentRow - 1, 2, 5));
+        }
+
+        return currentRow;
+    }
+
+    // 유틸리티 메소드들
+    private void createCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value != null ? value : "");
+        cell.setCellStyle(style);
+        columnWidths.record(row.getRowNum(), column, value);
+    }
+
+    // 값 없이 스타일만 있는 셀 (너비 계산 대상 아님)
+    private void createBlankCell(Row row, int column, CellStyle style) {
+        row.createCell(column).setCellStyle(style);
+    }
+
+    // 골격 시트에 스타일만 입혀 둔 빈 셀에 값 채우기
+    private void setSkeletonValue(Sheet sheet, int rowNum, int column, String value) {
+        sheet.getRow(rowNum).getCell(column).setCellValue(value != null ? value : "");
+    }
+
+    // 복제한 고정 영역의 셀 값/병합 영역도 컬럼 너비 계산에 기록 (병합 영역은 템플릿에 이미 들어 있음)
+    private void recordSkeleton(Sheet sheet, int skeletonRows) {
+        for (int rowNum = 0; rowNum < skeletonRows; rowNum++) {
+            Row row = sheet.getRow(rowNum);
+            if (row == null) continue;
+            for (Cell cell : row) {
+                if (cell.getCellType() == CellType.STRING) {
+                    columnWidths.record(rowNum, cell.getColumnIndex(), cell.getStringCellValue());
+                }
+            }
+        }
+        for (CellRangeAddress region : sheet.getMergedRegions()) {
+            columnWidths.merged(region);
+        }
+    }
+
+    private void addMergedRegion(Sheet sheet, CellRangeAddress region) {
+        mergePlanner.add(region);
+        columnWidths.merged(region);
+    }
+
+    // 병합 영역 오른쪽 끝 셀용 스타일 - 오른쪽 테두리만
+    private CellStyle createRightBorderStyle(StyleRegistry styles) {
+        return styles.get(StyleRegistry.Spec.PLAIN.borders(null, null, null, BorderStyle.THIN));
+    }
+
+    private CellStyle createGrayHeaderStyle(StyleRegistry styles) {
+        return styles.get(StyleRegistry.Spec.PLAIN
+                .boldFont()
+                .color(IndexedColors.BLACK.getIndex())
+                .fill(IndexedColors.GREY_25_PERCENT.getIndex())
+                .align(HorizontalAlignment.CENTER, VerticalAlignment.CENTER)
+                .border(BorderStyle.THIN)
+                .wrap());
+    }
+
+    private CellStyle createDataStyle(StyleRegistry styles) {
+        return styles.get(StyleRegistry.Spec.PLAIN
+                .align(HorizontalAlignment.LEFT, VerticalAlignment.TOP)
+                .border(BorderStyle.THIN)
+                .wrap());
+    }
+
+    private CellStyle createCategoryStyle(StyleRegistry styles, boolean isTrue) {
+        return styles.get(StyleRegistry.Spec.PLAIN
+                .boldFont()
+                .fill(IndexedColors.GREY_25_PERCENT.getIndex())
+                .align(HorizontalAlignment.CENTER, VerticalAlignment.CENTER)
+                .borders(BorderStyle.THIN, isTrue ? BorderStyle.THIN : null, BorderStyle.THIN, BorderStyle.THIN)
+                .wrap());
+    }
+
+    // 1번째 열 (A열)용 카테고리 스타일 - 카테고리 스타일과 속성이 같으므로 같은 스타일을 공유
+    private CellStyle createFirstColumnCategoryStyle(StyleRegistry styles) {
+        return createCategoryStyle(styles, true);
+    }
+
+    // 1번째 열 (A열)용 데이터 스타일 - 데이터 스타일과 속성이 같으므로 같은 스타일을 공유
+    private CellStyle createFirstColumnDataStyle(StyleRegistry styles) {
+        return createDataStyle(styles);
+    }
+}
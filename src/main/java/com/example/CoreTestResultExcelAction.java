@@ -7,6 +7,8 @@ import com.intellij.execution.process.ProcessOutputTypes;
 import com.intellij.execution.runners.ExecutionEnvironment;
 import com.intellij.execution.testframework.TestFrameworkRunningModel;
 import com.intellij.execution.testframework.sm.runner.GeneralTestEventsProcessor;
+import com.intellij.execution.testframework.sm.runner.SMTRunnerEventsAdapter;
+import com.intellij.execution.testframework.sm.runner.SMTRunnerEventsListener;
 import com.intellij.execution.testframework.sm.runner.SMTestProxy;
 import com.intellij.execution.testframework.sm.runner.events.*;
 import com.intellij.openapi.actionSystem.AnAction;
@@ -14,32 +16,42 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
-import com.intellij.psi.search.FileTypeIndex;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.openapi.fileTypes.StdFileTypes;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.openapi.fileChooser.FileChooser;
 import com.intellij.openapi.fileChooser.FileChooserDescriptor;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.util.Key;
 import com.intellij.util.messages.MessageBusConnection;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.example.TestMetadataCollector.TestClassMetadata;
+import com.example.TestMetadataCollector.TestMethodMetadata;
+import org.jetbrains.annotations.NotNull;
 
-import java.io.FileOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 public class CoreTestResultExcelAction extends AnAction {
 
+    private static final String JAVA_TEST_PROTOCOL = "java:test://";
+
     private static final Map<String, TestExecutionResult> testResults = new ConcurrentHashMap<>();
     private static final Map<String, TestClassMetadata> classMetadata = new ConcurrentHashMap<>();
     private MessageBusConnection connection;
     private ProcessHandler currentProcessHandler;
-    private StringBuilder processOutput = new StringBuilder();
+    // 콘솔 출력은 줄 단위로 바로 파싱 (전체 출력을 보관하지 않음)
+    private volatile TestOutputParser outputParser = new TestOutputParser();
+    // 테스트 러너 이벤트(SMTestProxy)로 결과를 받은 경우 콘솔 출력은 파싱하지 않음
+    private volatile boolean structuredResultsReceived;
+    // 마지막 테스트 실행의 성능 회귀 분석 (실행 이력 비교, 백그라운드 수행)
+    private volatile Future<List<TestHistoryStore.Regression>> regressionAnalysis;
 
     @Override
     public void actionPerformed(AnActionEvent e) {
@@ -64,7 +76,7 @@ public class CoreTestResultExcelAction extends AnAction {
                 }
             }
 
-            // 테스트 메타데이터 수집
+            // 테스트 메타데이터 수집 (백그라운드, 결과는 Excel 생성 시 사용)
             collectTestMetadata(project);
 
             // 테스트 실행 리스너 등록
@@ -83,117 +95,22 @@ public class CoreTestResultExcelAction extends AnAction {
     }
 
     private void collectTestMetadata(Project project) {
-        classMetadata.clear();
-
-        Collection<VirtualFile> javaFiles = FileTypeIndex.getFiles(StdFileTypes.JAVA, GlobalSearchScope.projectScope(project));
-
-        for (VirtualFile file : javaFiles) {
-            PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
-            if (psiFile instanceof PsiJavaFile) {
-                PsiJavaFile javaFile = (PsiJavaFile) psiFile;
-
-                for (PsiClass psiClass : javaFile.getClasses()) {
-                    if (isTestClass(psiClass)) {
-                        TestClassMetadata metadata = extractTestClassMetadata(psiClass);
-                        if (metadata != null) {
-                            classMetadata.put(metadata.className, metadata);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    private boolean isTestClass(PsiClass psiClass) {
-        String className = psiClass.getName();
-        if (className != null && className.contains("Test")) {
-            return true;
-        }
-
-        PsiMethod[] methods = psiClass.getMethods();
-        for (PsiMethod method : methods) {
-            if (hasTestAnnotation(method)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private boolean hasTestAnnotation(PsiMethod method) {
-        PsiAnnotation[] annotations = method.getAnnotations();
-        for (PsiAnnotation annotation : annotations) {
-            String annotationName = annotation.getQualifiedName();
-            if ("org.junit.jupiter.api.Test".equals(annotationName) ||
-                    "org.junit.Test".equals(annotationName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private TestClassMetadata extractTestClassMetadata(PsiClass psiClass) {
-        TestClassMetadata metadata = new TestClassMetadata();
-        metadata.className = psiClass.getName();
-        metadata.injectMocksClass = findInjectMocksClass(psiClass);
-        metadata.testMethods = new HashMap<>();
-
-        PsiMethod[] methods = psiClass.getMethods();
-        for (PsiMethod method : methods) {
-            if (hasTestAnnotation(method)) {
-                TestMethodMetadata methodMetadata = new TestMethodMetadata();
-                methodMetadata.methodName = method.getName();
-                methodMetadata.displayName = extractDisplayName(method);
-                methodMetadata.targetMethodName = extractCalledApiMethod(method);
-
-                metadata.testMethods.put(method.getName(), methodMetadata);
-            }
-        }
-
-        return metadata;
-    }
-
-    private String findInjectMocksClass(PsiClass psiClass) {
-        PsiField[] fields = psiClass.getFields();
-        for (PsiField field : fields) {
-            PsiAnnotation[] annotations = field.getAnnotations();
-            for (PsiAnnotation annotation : annotations) {
-                if ("org.mockito.InjectMocks".equals(annotation.getQualifiedName())) {
-                    PsiType type = field.getType();
-                    return type.getPresentableText();
-                }
-            }
-        }
-        return "";
-    }
-
-    private String extractDisplayName(PsiMethod method) {
-        PsiAnnotation[] annotations = method.getAnnotations();
-        for (PsiAnnotation annotation : annotations) {
-            if ("org.junit.jupiter.api.DisplayName".equals(annotation.getQualifiedName())) {
-                PsiAnnotationMemberValue value = annotation.findAttributeValue("value");
-                if (value != null) {
-                    String displayName = value.getText();
-                    return displayName.replaceAll("\"", "");
-                }
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "테스트 메타데이터 수집", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setText("@Test 메소드 검색 중...");
+
+                // 인덱스 검색은 인덱싱이 끝난 뒤(smart mode)에 수행
+                Map<String, TestClassMetadata> collected = ReadAction
+                        .nonBlocking(() -> TestMetadataCollector.getInstance(project).collect(indicator))
+                        .inSmartMode(project)
+                        .wrapProgress(indicator)
+                        .executeSynchronously();
+
+                classMetadata.clear();
+                classMetadata.putAll(collected);
             }
-        }
-        return "";
-    }
-
-    private String extractCalledApiMethod(PsiMethod method) {
-        PsiCodeBlock body = method.getBody();
-        if (body == null) return "";
-
-        String bodyText = body.getText();
-        Pattern pattern = Pattern.compile("target\\.(\\w+)\\s*\\(");
-        Matcher matcher = pattern.matcher(bodyText);
-
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-
-        return "";
+        });
     }
 
     private void setupTestExecutionListener(Project project) {
@@ -207,15 +124,18 @@ public class CoreTestResultExcelAction extends AnAction {
             public void processStarted(String executorId, ExecutionEnvironment env, ProcessHandler handler) {
                 if (isTestExecution(executorId, env)) {
                     currentProcessHandler = handler;
-                    processOutput.setLength(0);
+                    TestOutputParser parser = new TestOutputParser();
+                    outputParser = parser;
                     testResults.clear();
+                    structuredResultsReceived = false;
 
-                    // 프로세스 출력 수집
+                    // 프로세스 출력 파싱 (테스트 러너 이벤트가 없는 실행 구성용 예비 수단)
                     handler.addProcessListener(new com.intellij.execution.process.ProcessAdapter() {
                         @Override
                         public void onTextAvailable(com.intellij.execution.process.ProcessEvent event, Key outputType) {
+                            if (structuredResultsReceived) return;
                             if (outputType == ProcessOutputTypes.STDOUT || outputType == ProcessOutputTypes.STDERR) {
-                                processOutput.append(event.getText());
+                                parser.append(outputType, event.getText());
                             }
                         }
                     });
@@ -226,10 +146,13 @@ public class CoreTestResultExcelAction extends AnAction {
             public void processTerminated(String executorId, ExecutionEnvironment env, ProcessHandler handler, int exitCode) {
                 if (isTestExecution(executorId, env) && handler == currentProcessHandler) {
                     ApplicationManager.getApplication().invokeLater(() -> {
-                        // 출력 파싱하여 테스트 결과 수집
-                        parseTestOutput();
+                        // 테스트 러너 이벤트가 없었던 경우에만 출력 파싱하여 테스트 결과 수집
+                        if (!structuredResultsReceived) {
+                            collectParsedResults(outputParser);
+                        }
 
                         if (!testResults.isEmpty()) {
+                            startRegressionAnalysis(project);
                             int result = Messages.showYesNoDialog(
                                     String.format("테스트 실행이 완료되었습니다. (%d개 테스트 결과 수집)\nExcel 파일을 생성하시겠습니까?",
                                             testResults.size()),
@@ -247,293 +170,223 @@ public class CoreTestResultExcelAction extends AnAction {
                 }
             }
         });
-    }
 
-    private boolean isTestExecution(String executorId, ExecutionEnvironment env) {
-        // JUnit 실행인지 확인
-        return executorId.contains("JUnit") ||
-                executorId.contains("Test") ||
-                env.getRunProfile().getName().contains("Test");
-    }
-
-    private void parseTestOutput() {
-        String output = processOutput.toString();
-        if (output.isEmpty()) return;
-
-        String[] lines = output.split("\\r?\\n");
-        String currentClassName = "";
-
-        for (String line : lines) {
-            line = line.trim();
-
-            // 테스트 클래스 시작 패턴
-            if (line.matches(".*Test.*started.*") || line.contains("Test class")) {
-                currentClassName = extractClassNameFromLine(line);
+        // 테스트 러너 이벤트: 테스트별 결과와 실행 시간을 정확하게 수신 (EDT 에서 호출)
+        connection.subscribe(SMTRunnerEventsListener.TEST_STATUS, new SMTRunnerEventsAdapter() {
+            @Override
+            public void onTestFinished(SMTestProxy test) {
+                // 무시된 테스트도 testIgnored 다음에 testFinished 가 오므로 IGNORED 결과를 덮어쓰지 않도록 상태를 다시 확인
+                recordTestResult(test, test.isIgnored());
             }
 
-            // JUnit 5 테스트 결과 패턴
-            if (line.contains("✓") || line.contains("SUCCESSFUL")) {
-                parseTestResult(line, currentClassName, true);
-            } else if (line.contains("✗") || line.contains("FAILED") || line.contains("ERROR")) {
-                parseTestResult(line, currentClassName, false);
+            @Override
+            public void onTestIgnored(SMTestProxy test) {
+                recordTestResult(test, true);
             }
+        });
+    }
 
-            // Gradle/Maven 출력 패턴
-            if (line.matches(".*Test.*\\s+(PASSED|FAILED).*")) {
-                parseGradleTestResult(line);
+    /**
+     * 테스트 러너 이벤트의 테스트 결과 저장
+     * @param ignored 실행하지 않은 테스트 (@Disabled, 가정 실패 등)
+     */
+    private void recordTestResult(SMTestProxy test, boolean ignored) {
+        if (test.isSuite()) return;
+
+        String className = "";
+        String methodName = test.getName();
+
+        // JUnit 위치 URL: java:test://com.example.FooTest/methodName
+        String locationUrl = test.getLocationUrl();
+        if (locationUrl != null && locationUrl.startsWith(JAVA_TEST_PROTOCOL)) {
+            String path = locationUrl.substring(JAVA_TEST_PROTOCOL.length());
+            int slash = path.lastIndexOf('/');
+            if (slash > 0) {
+                className = path.substring(0, slash);
+                methodName = path.substring(slash + 1);
             }
+        } else if (test.getParent() != null) {
+            className = test.getParent().getName();
         }
-
-        // 출력에서 직접 파싱이 어려운 경우, 기본값으로 테스트 메타데이터 사용
-        if (testResults.isEmpty()) {
-            createDefaultTestResults();
+        className = className.substring(className.lastIndexOf('.') + 1);
+
+        TestExecutionResult result = new TestExecutionResult();
+        result.testName = methodName;
+        result.className = className;
+        // 파라미터화/반복 테스트: 메소드 노드 아래의 실행 노드 (예: "[1] input=a", "repetition 1 of 3")
+        SMTestProxy parent = test.getParent();
+        String parentUrl = parent != null ? parent.getLocationUrl() : null;
+        String presentableName = test.getPresentableName();
+        if (parentUrl != null && parentUrl.startsWith(JAVA_TEST_PROTOCOL) && presentableName != null) {
+            result.invocationName = presentableName;
         }
+        result.ignored = ignored;
+        result.success = !ignored && !test.isDefect();
+        Long duration = test.getDuration();
+        result.executionTime = duration != null ? duration / 1000.0 : 0.0;
+        result.errorMessage = result.success || ignored ? "" : firstLine(test.getErrorMessage());
+
+        structuredResultsReceived = true;
+        // 같은 메소드의 여러 실행이 서로 덮어쓰지 않도록 표시 이름까지 키에 포함
+        testResults.put(className + "#" + methodName + "#" + presentableName, result);
     }
 
-    private String extractClassNameFromLine(String line) {
-        // 클래스명 추출 패턴
-        Pattern pattern = Pattern.compile("([\\w\\.]*\\w*Test)");
-        Matcher matcher = pattern.matcher(line);
-        if (matcher.find()) {
-            String fullClassName = matcher.group(1);
-            return fullClassName.substring(fullClassName.lastIndexOf('.') + 1);
-        }
-        return "";
+    // 엑셀/이력에 표시할 테스트 이름 (파라미터화/반복 테스트는 실행 이름을 붙여 구분)
+    private static String testLabel(TestExecutionResult result) {
+        return result.invocationName.isEmpty() ? result.testName : result.testName + " " + result.invocationName;
     }
 
-    private void parseTestResult(String line, String className, boolean success) {
-        // 메소드명과 시간 추출
-        Pattern pattern = Pattern.compile("(\\w+).*?(\\d+(?:\\.\\d+)?\\s*(?:ms|s))");
-        Matcher matcher = pattern.matcher(line);
-
-        if (matcher.find()) {
-            String methodName = matcher.group(1);
-            String timeStr = matcher.group(2);
-
-            TestExecutionResult result = new TestExecutionResult();
-            result.testName = methodName;
-            result.className = className;
-            result.success = success;
-            result.executionTime = parseExecutionTime(timeStr);
-            result.errorMessage = success ? "" : extractErrorMessage(line);
-
-            String key = className + "#" + methodName;
-            testResults.put(key, result);
-        }
+    private static String firstLine(String message) {
+        if (message == null || message.isBlank()) return "Test failed";
+        int newline = message.indexOf('\n');
+        return (newline >= 0 ? message.substring(0, newline) : message).trim();
     }
 
-    private void parseGradleTestResult(String line) {
-        Pattern pattern = Pattern.compile("(\\w+)\\s+(PASSED|FAILED)");
-        Matcher matcher = pattern.matcher(line);
-
-        if (matcher.find()) {
-            String methodName = matcher.group(1);
-            boolean success = "PASSED".equals(matcher.group(2));
+    private boolean isTestExecution(String executorId, ExecutionEnvironment env) {
+        // JUnit 실행인지 확인
+        return executorId.contains("JUnit") ||
+                executorId.contains("Test") ||
+                env.getRunProfile().getName().contains("Test");
+    }
 
+    private void collectParsedResults(TestOutputParser parser) {
+        parser.flush();
+        for (TestOutputParser.ParsedResult parsed : parser.results().values()) {
             TestExecutionResult result = new TestExecutionResult();
-            result.testName = methodName;
-            result.className = extractClassNameFromOutput();
-            result.success = success;
-            result.executionTime = "0.000";
-            result.errorMessage = success ? "" : "Test failed";
+            result.testName = parsed.testName();
+            result.className = parsed.className();
+            result.success = parsed.success();
+            result.executionTime = parsed.executionSeconds();
+            result.errorMessage = parsed.errorMessage();
 
-            String key = result.className + "#" + methodName;
+            String key = result.className + "#" + result.testName;
             testResults.put(key, result);
         }
-    }
 
-    private String extractClassNameFromOutput() {
-        // 전체 출력에서 클래스명 찾기
-        String output = processOutput.toString();
-        Pattern pattern = Pattern.compile("([\\w\\.]*\\w*Test)");
-        Matcher matcher = pattern.matcher(output);
-        if (matcher.find()) {
-            String fullClassName = matcher.group(1);
-            return fullClassName.substring(fullClassName.lastIndexOf('.') + 1);
+        // 출력에서 직접 파싱이 어려운 경우, 기본값으로 테스트 메타데이터 사용
+        if (testResults.isEmpty()) {
+            createDefaultTestResults();
         }
-        return "UnknownTestClass";
     }
 
     private void createDefaultTestResults() {
         // 메타데이터를 기반으로 기본 테스트 결과 생성
         for (TestClassMetadata classInfo : classMetadata.values()) {
-            for (TestMethodMetadata methodInfo : classInfo.testMethods.values()) {
+            for (TestMethodMetadata methodInfo : classInfo.testMethods().values()) {
                 TestExecutionResult result = new TestExecutionResult();
-                result.testName = methodInfo.methodName;
-                result.className = classInfo.className;
+                result.testName = methodInfo.methodName();
+                result.className = classInfo.className();
                 result.success = true; // 기본값
-                result.executionTime = "0.000";
+                result.executionTime = 0.0;
                 result.errorMessage = "";
 
-                String key = classInfo.className + "#" + methodInfo.methodName;
+                String key = classInfo.className() + "#" + methodInfo.methodName();
                 testResults.put(key, result);
             }
         }
     }
 
-    private String parseExecutionTime(String timeStr) {
-        if (timeStr.contains("ms")) {
-            String ms = timeStr.replaceAll("[^0-9.]", "");
-            try {
-                double milliseconds = Double.parseDouble(ms);
-                return String.format("%.3f", milliseconds / 1000.0);
-            } catch (NumberFormatException e) {
-                return "0.000";
-            }
-        } else if (timeStr.contains("s")) {
-            String s = timeStr.replaceAll("[^0-9.]", "");
-            try {
-                return String.format("%.3f", Double.parseDouble(s));
-            } catch (NumberFormatException e) {
-                return "0.000";
-            }
-        }
-        return "0.000";
-    }
-
-    private String extractErrorMessage(String line) {
-        if (line.contains("AssertionError")) {
-            return "AssertionError";
-        } else if (line.contains("Exception")) {
-            int idx = line.indexOf("Exception");
-            return line.substring(Math.max(0, idx - 20), Math.min(line.length(), idx + 30));
-        } else if (line.contains("Error")) {
-            return "Error occurred";
-        }
-        return "Test failed";
-    }
-
     private void generateExcelFile(Project project) {
-        try {
-            FileChooserDescriptor descriptor = new FileChooserDescriptor(false, true, false, false, false, false);
-            descriptor.setTitle("Excel 파일 저장 위치 선택");
-            VirtualFile selectedDir = FileChooser.chooseFile(descriptor, project, null);
-
-            if (selectedDir != null) {
-                String filePath = selectedDir.getPath() + "/테스트결과_" +
-                        System.currentTimeMillis() + ".xlsx";
-                generateExcel(filePath);
-                Messages.showInfoMessage("Excel 파일이 성공적으로 생성되었습니다.\n경로: " + filePath, "완료");
-            }
-
-        } catch (Exception ex) {
-            Messages.showErrorDialog("Excel 생성 중 오류가 발생했습니다: " + ex.getMessage(), "오류");
-        }
-    }
-
-    private void generateExcel(String filePath) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("테스트 결과");
-
-        // 헤더 생성
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {
-                "no", "분류", "세부 분류", "기능", "IF 여부", "API 클래스명",
-                "API 명", "API 내용", "테스트 클래스명", "테스트 메소드 명",
-                "실행 결과", "실행시간 (초)", "실패 / 오류 메시지"
-        };
-
-        // 헤더 스타일 설정
-        CellStyle headerStyle = workbook.createCellStyle();
-        headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        headerStyle.setBorderTop(BorderStyle.THIN);
-        headerStyle.setBorderBottom(BorderStyle.THIN);
-        headerStyle.setBorderLeft(BorderStyle.THIN);
-        headerStyle.setBorderRight(BorderStyle.THIN);
-
-        Font headerFont = workbook.createFont();
-        headerFont.setBold(true);
-        headerStyle.setFont(headerFont);
-
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
+        FileChooserDescriptor descriptor = new FileChooserDescriptor(false, true, false, false, false, false);
+        descriptor.setTitle("Excel 파일 저장 위치 선택");
+        VirtualFile selectedDir = FileChooser.chooseFile(descriptor, project, null);
+        if (selectedDir == null) {
+            return;
         }
 
-        // 데이터 행 생성
-        int rowNum = 1;
-        for (Map.Entry<String, TestExecutionResult> entry : testResults.entrySet()) {
-            TestExecutionResult result = entry.getValue();
-            TestClassMetadata classInfo = classMetadata.get(result.className);
-            TestMethodMetadata methodInfo = null;
+        File output = new File(selectedDir.getPath(), "테스트결과_" + System.currentTimeMillis() + ".xlsx");
+        List<CoreTestResultExcelExporter.TestResultRow> rows = toRows();
 
-            if (classInfo != null) {
-                methodInfo = classInfo.testMethods.get(result.testName);
+        // 엑셀 작성/저장은 백그라운드에서 수행
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "테스트 결과 엑셀 생성", false) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setText("테스트 결과 엑셀 생성 중...");
+                try {
+                    new CoreTestResultExcelExporter(GuideExportOptions.fromSystemProperties()).export(output, rows, awaitRegressions());
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
             }
 
-            Row row = sheet.createRow(rowNum);
-
-            row.createCell(0).setCellValue(rowNum); // no
-            row.createCell(1).setCellValue(""); // 분류 (빈값)
-            row.createCell(2).setCellValue(""); // 세부 분류 (빈값)
-            row.createCell(3).setCellValue(""); // 기능 (빈값)
-            row.createCell(4).setCellValue(""); // IF 여부 (빈값)
-
-            // API 클래스명 (@InjectMocks 대상 클래스명)
-            String apiClassName = classInfo != null ? classInfo.injectMocksClass : "";
-            row.createCell(5).setCellValue(apiClassName);
-
-            // API 명 (테스트 메소드가 호출하는 target 메소드명)
-            String apiMethodName = methodInfo != null ? methodInfo.targetMethodName : "";
-            row.createCell(6).setCellValue(apiMethodName);
-
-            // API 내용 (@DisplayName 값)
-            String apiContent = methodInfo != null ? methodInfo.displayName : "";
-            row.createCell(7).setCellValue(apiContent);
-
-            // 테스트 클래스명
-            row.createCell(8).setCellValue(result.className);
-
-            // 테스트 메소드명
-            row.createCell(9).setCellValue(result.testName);
-
-            // 실행 결과 (SUCCESS / FAIL)
-            String executionResult = result.success ? "SUCCESS" : "FAIL";
-            row.createCell(10).setCellValue(executionResult);
-
-            // 실행시간 (초)
-            row.createCell(11).setCellValue(result.executionTime);
-
-            // 실패 / 오류 메시지
-            String errorMessage = result.success ? "" : (result.errorMessage != null ? result.errorMessage : "");
-            row.createCell(12).setCellValue(errorMessage);
-
-            rowNum++;
-        }
+            @Override
+            public void onSuccess() {
+                Messages.showInfoMessage(project, "Excel 파일이 성공적으로 생성되었습니다.\n경로: " + output.getPath(), "완료");
+            }
 
-        // 컬럼 너비 자동 조정
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
+            @Override
+            public void onThrowable(@NotNull Throwable error) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                Messages.showErrorDialog(project, "Excel 생성 중 오류가 발생했습니다: " + cause.getMessage(), "오류");
+            }
+        });
+    }
 
-        // 파일 저장
-        try (FileOutputStream fileOut = new FileOutputStream(filePath)) {
-            workbook.write(fileOut);
+    /**
+     * 이번 실행 결과를 프로젝트의 테스트 실행 이력과 비교하고 이력에 추가 (파일 I/O 는 백그라운드 스레드에서 수행)
+     */
+    private void startRegressionAnalysis(Project project) {
+        List<TestHistoryStore.RunEntry> run = new ArrayList<>(testResults.size());
+        for (TestExecutionResult result : testResults.values()) {
+            // 실행하지 않은 테스트는 실행 시간 이력에 넣지 않음
+            if (result.ignored) continue;
+            run.add(new TestHistoryStore.RunEntry(result.className + "#" + testLabel(result), result.success, result.executionTime));
         }
+        double thresholdRatio = GuideExportOptions.fromSystemProperties().getRegressionThresholdPercent() / 100.0;
+        TestHistoryStore store = TestHistoryStore.forProject(project);
 
-        workbook.close();
+        regressionAnalysis = ApplicationManager.getApplication().executeOnPooledThread(
+                () -> store.analyzeAndAppend(run, thresholdRatio));
     }
 
-    // 내부 클래스들
-    private static class TestClassMetadata {
-        String className;
-        String injectMocksClass;
-        Map<String, TestMethodMetadata> testMethods;
+    /**
+     * 성능 회귀 분석 결과 (분석 전이거나 이력 파일 오류 시 빈 목록)
+     */
+    private List<TestHistoryStore.Regression> awaitRegressions() {
+        Future<List<TestHistoryStore.Regression>> analysis = regressionAnalysis;
+        if (analysis == null) return List.of();
+        try {
+            return analysis.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException e) {
+            // 이력 파일을 읽거나 쓸 수 없어도 테스트 결과 엑셀은 생성
+            return List.of();
+        }
     }
 
-    private static class TestMethodMetadata {
-        String methodName;
-        String displayName;
-        String targetMethodName;
+    /**
+     * 수집된 테스트 결과에 테스트 메타데이터(API 클래스/메소드, DisplayName)를 붙인 엑셀 행 목록
+     */
+    private List<CoreTestResultExcelExporter.TestResultRow> toRows() {
+        List<CoreTestResultExcelExporter.TestResultRow> rows = new ArrayList<>(testResults.size());
+        for (TestExecutionResult result : testResults.values()) {
+            TestClassMetadata classInfo = classMetadata.get(result.className);
+            TestMethodMetadata methodInfo = classInfo != null ? classInfo.testMethods().get(result.testName) : null;
+
+            rows.add(new CoreTestResultExcelExporter.TestResultRow(
+                    classInfo != null ? classInfo.injectMocksClass() : "",
+                    methodInfo != null ? methodInfo.targetMethodName() : "",
+                    methodInfo != null ? methodInfo.displayName() : "",
+                    result.className,
+                    testLabel(result),
+                    result.ignored ? CoreTestResultExcelExporter.Status.IGNORED
+                            : result.success ? CoreTestResultExcelExporter.Status.SUCCESS : CoreTestResultExcelExporter.Status.FAIL,
+                    result.executionTime,
+                    result.errorMessage));
+        }
+        return rows;
     }
 
+    // 내부 클래스들
     private static class TestExecutionResult {
         String testName;
         String className;
+        String invocationName = ""; // 파라미터화/반복 테스트의 실행 이름
         boolean success;
-        String executionTime;
+        boolean ignored;
+        double executionTime; // 초
         String errorMessage;
     }
 
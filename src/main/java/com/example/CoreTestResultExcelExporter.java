@@ -1,4 +1,205 @@
 package com.example;
 
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 테스트 결과 엑셀 생성
+ * 행 일부만 메모리에 유지하는 스트리밍 워크북으로 작성하므로 수만 건의 결과도 일정한 메모리로 생성한다.
+ * 컬럼 너비는 셀 값을 측정하지 않고 고정 값을 사용하며, 실행 시간은 숫자 셀(초)로 기록한다.
+ * 성능 회귀로 판정된 테스트가 있으면 "성능 회귀" 시트를 추가한다.
+ */
 public class CoreTestResultExcelExporter {
+
+    private static final String[] HEADERS = {
+            "no", "분류", "세부 분류", "기능", "IF 여부", "API 클래스명",
+            "API 명", "API 내용", "테스트 클래스명", "테스트 메소드 명",
+            "실행 결과", "실행시간 (초)", "실패 / 오류 메시지"
+    };
+
+    /** 컬럼 너비 (문자 수) */
+    private static final int[] COLUMN_WIDTHS = {
+            6, 10, 10, 12, 8, 28,
+            24, 40, 32, 36,
+            10, 12, 60
+    };
+
+    private static final String[] REGRESSION_HEADERS = {
+            "테스트 클래스명", "테스트 메소드 명", "실행시간 (초)", "중앙값 (초)",
+            "p95 (초)", "증가율", "이력 수", "판정"
+    };
+
+    private static final int[] REGRESSION_COLUMN_WIDTHS = {
+            32, 36, 12, 12,
+            12, 10, 8, 30
+    };
+
+    /** 엑셀 셀 최대 문자 수 */
+    private static final int MAX_CELL_LENGTH = 32767;
+
+    private static final StyleRegistry.Spec HEADER_STYLE = StyleRegistry.Spec.PLAIN
+            .boldFont()
+            .fill(IndexedColors.GREY_25_PERCENT.getIndex())
+            .border(BorderStyle.THIN);
+    private static final StyleRegistry.Spec DURATION_STYLE = StyleRegistry.Spec.PLAIN.format("0.000");
+    private static final StyleRegistry.Spec RATIO_STYLE = StyleRegistry.Spec.PLAIN.format("0%");
+
+    /**
+     * 테스트 실행 결과 (엑셀 "실행 결과" 컬럼 값)
+     */
+    public enum Status {
+        SUCCESS,
+        FAIL,
+        IGNORED
+    }
+
+    /**
+     * 테스트 결과 1행
+     * @param testMethodName 테스트 메소드명 (파라미터화/반복 테스트는 실행 이름 포함)
+     * @param executionSeconds 실행 시간 (초)
+     */
+    public record TestResultRow(String apiClassName, String apiMethodName, String apiContent,
+                                String testClassName, String testMethodName,
+                                Status status, double executionSeconds, String errorMessage) {
+    }
+
+    private final GuideExportOptions options;
+
+    public CoreTestResultExcelExporter() {
+        this(new GuideExportOptions());
+    }
+
+    public CoreTestResultExcelExporter(GuideExportOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * 테스트 결과 엑셀 생성. 오류 시 생성 중인 파일을 삭제한다.
+     */
+    public void export(File outputFile, Iterable<TestResultRow> results) throws IOException {
+        export(outputFile, results, List.of());
+    }
+
+    /**
+     * 테스트 결과 엑셀 생성 (성능 회귀 시트 포함)
+     * @param regressions 성능 회귀로 판정된 테스트 (비어 있으면 시트를 만들지 않음)
+     */
+    public void export(File outputFile, Iterable<TestResultRow> results, List<TestHistoryStore.Regression> regressions) throws IOException {
+        StreamingWorkbook workbook = new StreamingWorkbook(options.getStreamingRowWindow());
+        // 헤더/숫자 스타일은 시트끼리 공유
+        StyleRegistry styles = new StyleRegistry(workbook);
+        boolean completed = false;
+
+        try {
+            writeResultSheet(workbook, styles, results);
+            if (!regressions.isEmpty()) {
+                writeRegressionSheet(workbook, styles, regressions);
+            }
+
+            try (FileOutputStream fos = new FileOutputStream(outputFile)) {
+                workbook.write(fos);
+            }
+            completed = true;
+        } finally {
+            workbook.close();
+            if (!completed) {
+                outputFile.delete();
+            }
+        }
+    }
+
+    private void writeResultSheet(StreamingWorkbook workbook, StyleRegistry styles, Iterable<TestResultRow> results) {
+        Sheet sheet = workbook.createSheet("테스트 결과");
+        writeHeader(styles, sheet, HEADERS, COLUMN_WIDTHS);
+
+        // 실행 시간은 숫자로 저장하고 표시 형식만 지정
+        CellStyle durationStyle = styles.get(DURATION_STYLE);
+
+        int rowNum = 1;
+        for (TestResultRow result : results) {
+            Row row = sheet.createRow(rowNum);
+
+            row.createCell(0).setCellValue(rowNum); // no
+            // 분류, 세부 분류, 기능, IF 여부 (빈값) 는 셀을 만들지 않음
+            setText(row, 5, result.apiClassName());     // API 클래스명 (@InjectMocks 대상 클래스명)
+            setText(row, 6, result.apiMethodName());    // API 명 (테스트 메소드가 호출하는 target 메소드명)
+            setText(row, 7, result.apiContent());       // API 내용 (@DisplayName 값)
+            setText(row, 8, result.testClassName());
+            setText(row, 9, result.testMethodName());
+            setText(row, 10, result.status().name());
+
+            Cell duration = row.createCell(11);
+            duration.setCellValue(result.executionSeconds());
+            duration.setCellStyle(durationStyle);
+
+            setText(row, 12, result.status() == Status.FAIL ? result.errorMessage() : "");
+
+            rowNum++;
+        }
+    }
+
+    private void writeRegressionSheet(StreamingWorkbook workbook, StyleRegistry styles, List<TestHistoryStore.Regression> regressions) {
+        Sheet sheet = workbook.createSheet("성능 회귀");
+        writeHeader(styles, sheet, REGRESSION_HEADERS, REGRESSION_COLUMN_WIDTHS);
+
+        CellStyle durationStyle = styles.get(DURATION_STYLE);
+        CellStyle ratioStyle = styles.get(RATIO_STYLE);
+
+        int rowNum = 1;
+        for (TestHistoryStore.Regression regression : regressions) {
+            Row row = sheet.createRow(rowNum++);
+
+            // 키: "테스트 클래스명#메소드명"
+            String key = regression.key();
+            int separator = key.indexOf('#');
+            setText(row, 0, separator >= 0 ? key.substring(0, separator) : key);
+            setText(row, 1, separator >= 0 ? key.substring(separator + 1) : "");
+
+            setNumber(row, 2, regression.seconds(), durationStyle);
+            setNumber(row, 3, regression.median(), durationStyle);
+            setNumber(row, 4, regression.p95(), durationStyle);
+            setNumber(row, 5, regression.increaseRatio(), ratioStyle);
+            row.createCell(6).setCellValue(regression.samples());
+            setText(row, 7, regression.reason());
+        }
+    }
+
+    /**
+     * 고정 컬럼 너비(행을 쓰기 전에 설정, 값 측정 없음)와 헤더 행 작성
+     */
+    private static void writeHeader(StyleRegistry styles, Sheet sheet, String[] headers, int[] columnWidths) {
+        for (int i = 0; i < columnWidths.length; i++) {
+            sheet.setColumnWidth(i, columnWidths[i] * 256);
+        }
+
+        // 헤더 스타일 설정
+        CellStyle headerStyle = styles.get(HEADER_STYLE);
+
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+        }
+    }
+
+    private static void setNumber(Row row, int column, double value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(style);
+    }
+
+    private static void setText(Row row, int column, String value) {
+        if (value == null || value.isEmpty()) return;
+        row.createCell(column).setCellValue(value.length() > MAX_CELL_LENGTH ? value.substring(0, MAX_CELL_LENGTH) : value);
+    }
 }
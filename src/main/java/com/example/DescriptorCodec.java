@@ -0,0 +1,157 @@
+package com.example;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추출 결과(Descriptor)의 바이너리 직렬화
+ * 디스크 캐시({@link GuideDiskStore})에 저장할 때 사용한다. 필드를 추가/변경하면 {@link #FORMAT_VERSION} 을,
+ * 같은 소스에서 다른 결과가 나오도록 추출(분석) 로직을 바꾸면 {@link #EXTRACTOR_VERSION} 을 올려야 한다.
+ */
+public abstract class DescriptorCodec<T> {
+
+    /** 저장 형식 버전 - 바뀌면 기존 디스크 캐시는 모두 무시된다 */
+    static final int FORMAT_VERSION = 1;
+
+    /** 추출 로직 버전 - 디스크 캐시 헤더에 기록되며, 바뀌면 기존 디스크 캐시는 모두 무시된다 */
+    static final int EXTRACTOR_VERSION = 4;
+
+    public static final DescriptorCodec<BizApiDescriptor> BIZ = new DescriptorCodec<>("biz") {
+        @Override
+        void write(DataOutput out, BizApiDescriptor api) throws IOException {
+            writeString(out, api.methodName());
+            writeString(out, api.controllerClassName());
+            writeString(out, api.httpMethod());
+            writeString(out, api.urlPath());
+            writeString(out, api.description());
+            writeString(out, api.detailDescription());
+            writeString(out, api.serviceInfo());
+            writeString(out, api.repositoryInfo());
+            out.writeBoolean(api.inCorePackage());
+            writeStrings(out, api.logicDescriptions());
+            writeParameters(out, api.parameters());
+            writeString(out, api.requestExample());
+            writeString(out, api.responseDescription());
+            writeString(out, api.responseJsonSample());
+        }
+
+        @Override
+        BizApiDescriptor read(DataInput in) throws IOException {
+            return new BizApiDescriptor(
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    in.readBoolean(),
+                    readStrings(in),
+                    readParameters(in),
+                    readString(in),
+                    readString(in),
+                    readString(in));
+        }
+    };
+
+    public static final DescriptorCodec<CoreMethodDescriptor> CORE = new DescriptorCodec<>("core") {
+        @Override
+        void write(DataOutput out, CoreMethodDescriptor core) throws IOException {
+            writeString(out, core.methodName());
+            writeString(out, core.serviceName());
+            writeString(out, core.description());
+            writeString(out, core.detailDescription());
+            writeStrings(out, core.logicDescriptions());
+            writeParameters(out, core.parameters());
+            writeString(out, core.returnType());
+        }
+
+        @Override
+        CoreMethodDescriptor read(DataInput in) throws IOException {
+            return new CoreMethodDescriptor(
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readStrings(in),
+                    readParameters(in),
+                    readString(in));
+        }
+    };
+
+    private final String kind;
+
+    private DescriptorCodec(String kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * 추출 종류 (캐시 키/파일 이름에 사용)
+     */
+    public String kind() {
+        return kind;
+    }
+
+    abstract void write(DataOutput out, T value) throws IOException;
+
+    abstract T read(DataInput in) throws IOException;
+
+    // writeUTF 는 64KB 제한이 있어 길이 + UTF-8 바이트로 저장
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutput out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeParameters(DataOutput out, List<ParameterDescriptor> parameters) throws IOException {
+        out.writeInt(parameters.size());
+        for (ParameterDescriptor parameter : parameters) {
+            writeString(out, parameter.name());
+            writeString(out, parameter.type());
+            writeString(out, parameter.required());
+            writeString(out, parameter.description());
+        }
+    }
+
+    private static List<ParameterDescriptor> readParameters(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<ParameterDescriptor> parameters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            parameters.add(new ParameterDescriptor(readString(in), readString(in), readString(in), readString(in)));
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,278 @@
+package com.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static com.example.SpreadsheetMLWriter.STYLE_DATA;
+import static com.example.SpreadsheetMLWriter.STYLE_HEADER;
+import static com.example.SpreadsheetMLWriter.STYLE_HEADER_OPEN_BOTTOM;
+import static com.example.SpreadsheetMLWriter.STYLE_RIGHT_BORDER;
+
+/**
+ * Biz 가이드 렌더링 단계 ({@link SpreadsheetMLWriter} 직접 작성 버전)
+ * {@link BizSheetRenderer} 와 같은 셀/병합/스타일/컬럼 너비를 만들지만 POI 객체를 만들지 않고 시트 XML 로 바로 쓴다.
+ * 레이아웃을 바꿀 때는 두 클래스를 함께 수정해야 한다.
+ */
+public class DirectBizSheetRenderer {
+
+    private static final float DEFAULT_ROW_HEIGHT = 15f;
+
+    private final SpreadsheetMLWriter writer;
+    private final ColumnWidthEstimator columnWidths = new ColumnWidthEstimator(9);
+    private int currentRow;
+
+    public DirectBizSheetRenderer(SpreadsheetMLWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * API 1개를 시트 1개로 렌더링
+     */
+    public void render(BizApiDescriptor api) {
+        columnWidths.reset();
+        writer.startSheet(api.methodName());
+        currentRow = -1;
+
+        // 메인 헤더 생성 (A1:G1)
+        createMainHeaders(api);
+
+        // API 기본 정보 섹션
+        createApiBasicInfoSection(api);
+
+        // Java Class Layer 섹션
+        createJavaClassLayerSection(api);
+
+        // Logic 설명 섹션
+        createLogicSection(api);
+
+        // 파라미터 섹션
+        createParameterSection(api);
+
+        // 요청예시 섹션
+        createRequestExampleSection(api);
+
+        // Response JSON 섹션
+        createResponseSection(api);
+
+        try {
+            writer.endSheet(columnWidths.resolveWidths(2500, 8000, 6000));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void createMainHeaders(BizApiDescriptor api) {
+        nextRow();
+        createCell(0, "API Name", STYLE_HEADER);
+        createCell(1, api.methodName(), STYLE_DATA);
+        createCell(2, "", STYLE_DATA);
+        createCell(3, "", STYLE_DATA);
+        createCell(4, "Http Method", STYLE_HEADER);
+        createCell(5, api.httpMethod(), STYLE_DATA);
+        createCell(6, "", STYLE_DATA);
+
+        addMergedRegion(1, 3); // API Name
+        addMergedRegion(5, 6); // Http Method
+    }
+
+    private void createApiBasicInfoSection(BizApiDescriptor api) {
+        createLabeledRow("URL", api.urlPath());
+        createLabeledRow("요구사항 ID", "");
+
+        // 행 높이: 텍스트 줄 수 × 기본 높이 (API 설명 / 상세 설명 모두 API 설명 줄 수 기준)
+        int lines = api.description().split("\n").length;
+
+        createLabeledRow("API 설명", api.description());
+        writer.rowHeight(lines * DEFAULT_ROW_HEIGHT);
+
+        createLabeledRow("API 상세 설명", api.detailDescription());
+        writer.rowHeight(lines * DEFAULT_ROW_HEIGHT);
+    }
+
+    private void createJavaClassLayerSection(BizApiDescriptor api) {
+        // Java Class Layer 헤더
+        nextRow();
+        createCell(0, "Java Class Layer", STYLE_HEADER);
+        createEmptyCells(1, 6, STYLE_HEADER);
+        addMergedRegion(0, 6);
+
+        createLabeledRow("Controller Class / Method", api.controllerClassName() + " / " + api.methodName());
+        createLabeledRow("Service Class / Method", api.serviceInfo());
+        createLabeledRow("Repository Class", api.repositoryInfo());
+    }
+
+    private void createLogicSection(BizApiDescriptor api) {
+        // Logic 설명 헤더
+        nextRow();
+        createCell(0, "Logic 설명", STYLE_HEADER);
+        createEmptyCells(1, 6, STYLE_HEADER);
+        addMergedRegion(0, 6);
+
+        nextRow();
+        createCell(0, "로직단계유형", STYLE_HEADER);
+        createCell(1, "메서드", STYLE_HEADER);
+        createCell(2, "Core 클래스", STYLE_HEADER);
+        createCell(3, "Core 메소드", STYLE_HEADER);
+        createEmptyCells(4, 5, STYLE_HEADER);
+        createCell(6, "Description", STYLE_HEADER);
+
+        List<String> logicDescriptions = api.logicDescriptions();
+        // CORE 패키지명 여부 확인
+        String coreClass = api.inCorePackage() ? api.controllerClassName() : "";
+
+        for (int i = 0; i < Math.max(logicDescriptions.size(), 3); i++) {
+            nextRow();
+            createCell(0, i < logicDescriptions.size() ? logicDescriptions.get(i) : "", STYLE_DATA);
+            createCell(1, i == 0 ? "Controller" : i == 1 ? "Service" : "", STYLE_DATA);
+            createCell(3, i == 0 ? api.methodName() : i == 1 ? returnPropertMethod(api.methodName()) : "", STYLE_DATA);
+            createCell(2, i == 1 ? "CrudService" : coreClass, STYLE_DATA);
+            createEmptyCells(4, 6, STYLE_DATA); // 나머지 빈 셀
+        }
+    }
+
+    private void createParameterSection(BizApiDescriptor api) {
+        // 파라미터 헤더 (첫 셀만 있고 오른쪽 끝은 테두리만)
+        nextRow();
+        createCell(0, "파라미터", STYLE_HEADER);
+        addMergedRegion(0, 6);
+        createCell(6, "", STYLE_RIGHT_BORDER);
+
+        nextRow();
+        createCell(0, "속성", STYLE_HEADER);
+        createCell(1, "타입", STYLE_HEADER);
+        createCell(2, "필수여부", STYLE_HEADER);
+        createCell(3, "설명", STYLE_HEADER);
+        createEmptyCells(4, 5, STYLE_HEADER);
+        createCell(6, "Description", STYLE_HEADER);
+
+        // 파라미터 데이터 (최소 3개 행)
+        List<ParameterDescriptor> parameters = api.parameters();
+        for (int i = 0; i < Math.max(Math.max(1, parameters.size()), 3); i++) {
+            nextRow();
+            ParameterDescriptor param = i < parameters.size() ? parameters.get(i) : null;
+            createCell(0, param != null ? param.name() : "", STYLE_DATA);
+            createCell(1, param != null ? param.type() : "", STYLE_DATA);
+            createCell(2, param != null ? param.required() : "", STYLE_DATA);
+            createCell(3, param == null ? "" : i == 0 ? param.description() : param.name().equals("saveHist") ? "이력 저장 여부" : "", STYLE_DATA);
+            createEmptyCells(4, 6, STYLE_DATA);
+        }
+    }
+
+    private void createRequestExampleSection(BizApiDescriptor api) {
+        String[] exampleLines = api.requestExample().split("\n");
+
+        // 요청예시 헤더 (예시 줄이 있으면 BizSheetRenderer 와 같이 나머지 셀은 데이터 스타일)
+        nextRow();
+        createCell(0, "요청예시", STYLE_HEADER);
+        createEmptyCells(1, 6, exampleLines.length > 0 ? STYLE_DATA : STYLE_HEADER);
+        addMergedRegion(0, 6);
+
+        // 요청예시 데이터 (여러 행으로 분할)
+        for (String line : exampleLines) {
+            nextRow();
+            createCell(0, line, STYLE_DATA);
+            addMergedRegion(0, 6);
+            createCell(6, "", STYLE_RIGHT_BORDER);
+        }
+    }
+
+    private void createResponseSection(BizApiDescriptor api) {
+        // Response JSON 헤더
+        nextRow();
+        createCell(0, "Response JSON", STYLE_HEADER_OPEN_BOTTOM);
+        createEmptyCells(1, 6, STYLE_HEADER_OPEN_BOTTOM);
+        addMergedRegion(0, 6);
+
+        nextRow();
+        createCell(0, "Element", STYLE_HEADER_OPEN_BOTTOM);
+        createCell(1, "Type", STYLE_HEADER_OPEN_BOTTOM);
+        createCell(2, "Content", STYLE_HEADER_OPEN_BOTTOM);
+        createEmptyCells(3, 5, STYLE_HEADER_OPEN_BOTTOM);
+        createCell(6, "Description", STYLE_HEADER_OPEN_BOTTOM);
+
+        // Response 데이터 (3개 행, Content 셀은 BizSheetRenderer 와 같이 빈 셀로 덮어씀)
+        for (int i = 0; i < 3; i++) {
+            nextRow();
+            createCell(0, i == 0 ? getResponseElement(api.methodName()) : "", STYLE_DATA);
+            createCell(1, i == 0 ? getResponseType(api.methodName()) : "", STYLE_DATA);
+            createCell(2, i == 0 ? getResponseContent(api.methodName()) : "", STYLE_DATA);
+            createEmptyCells(2, 5, STYLE_DATA);
+            createCell(6, i == 0 ? api.responseDescription() : "", STYLE_DATA);
+        }
+
+        // Response JSON Sample 헤더
+        nextRow();
+        createCell(0, "Response JSON Sample", STYLE_HEADER_OPEN_BOTTOM);
+        createEmptyCells(1, 6, STYLE_HEADER_OPEN_BOTTOM);
+        addMergedRegion(0, 6);
+
+        // Response JSON Sample 데이터
+        String[] sampleLines = api.responseJsonSample().split("\n");
+        for (int i = 0; i < Math.max(sampleLines.length, 1); i++) {
+            nextRow();
+            createCell(0, i < sampleLines.length ? sampleLines[i] : "", STYLE_DATA);
+            createEmptyCells(1, 6, STYLE_DATA);
+            addMergedRegion(0, 6);
+        }
+    }
+
+    private void createLabeledRow(String label, String value) {
+        nextRow();
+        createCell(0, label, STYLE_HEADER);
+        createCell(1, value, STYLE_DATA);
+        createEmptyCells(2, 6, STYLE_DATA);
+        addMergedRegion(1, 6);
+    }
+
+    private String returnPropertMethod(String methodName) {
+        methodName = methodName.toLowerCase(); // 소문자 변환
+
+        if (methodName.contains("realdelete")) {
+            return "realdeleteEntities";
+        } else if (methodName.contains("undelete")) {
+            return "undeleteEntities";
+        } else if (methodName.contains("delete")) {
+            return "deleteEntities";
+        } else if (methodName.contains("create")) {
+            return "createEntities";
+        } else if (methodName.contains("update")) {
+            return "updateEntities";
+        } else {
+            return "getCustomQueryPredicates";
+        }
+    }
+
+    private String getResponseType(String methodName) {
+        return methodName.equals("getCustomQueryPredicates") ? "List" : "String";
+    }
+
+    private String getResponseElement(String methodName) {
+        return methodName.equals("getCustomQueryPredicates") ? "ResponseEntity" : "return String";
+    }
+
+    private String getResponseContent(String methodName) {
+        return methodName.equals("getCustomQueryPredicates") ? "객체 Object 배열" : "Success";
+    }
+
+    // 유틸리티 메소드들
+    private void nextRow() {
+        writer.row(++currentRow);
+    }
+
+    private void createEmptyCells(int fromCol, int toCol, int style) {
+        for (int col = fromCol; col <= toCol; col++) {
+            writer.cell(col, "", style);
+        }
+    }
+
+    private void createCell(int column, String value, int style) {
+        writer.cell(column, value, style);
+        columnWidths.record(currentRow, column, value);
+    }
+
+    private void addMergedRegion(int firstColumn, int lastColumn) {
+        writer.merge(currentRow, currentRow, firstColumn, lastColumn);
+        columnWidths.merged(currentRow, currentRow, firstColumn, lastColumn);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static com.example.SpreadsheetMLWriter.STYLE_DATA;
+import static com.example.SpreadsheetMLWriter.STYLE_HEADER;
+import static com.example.SpreadsheetMLWriter.STYLE_RIGHT_BORDER;
+
+/**
+ * Core 가이드 렌더링 단계 ({@link SpreadsheetMLWriter} 직접 작성 버전)
+ * {@link CoreSheetRenderer} 와 같은 셀/병합/스타일/컬럼 너비를 만들지만 POI 객체를 만들지 않고 시트 XML 로 바로 쓴다.
+ * 레이아웃을 바꿀 때는 두 클래스를 함께 수정해야 한다.
+ */
+public class DirectCoreSheetRenderer {
+
+    private final SpreadsheetMLWriter writer;
+    private final ColumnWidthEstimator columnWidths = new ColumnWidthEstimator(7);
+    private int currentRow;
+
+    public DirectCoreSheetRenderer(SpreadsheetMLWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 메소드 1개를 시트 1개로 렌더링
+     */
+    public void render(CoreMethodDescriptor core) {
+        columnWidths.reset();
+        writer.startSheet(core.methodName());
+        currentRow = -1;
+
+        // 메인 헤더 생성 (A1:F4)
+        createLabeledRow("API Name", core.methodName());
+        createLabeledRow("서비스명", core.serviceName());
+        createLabeledRow("기능", core.description());
+        createLabeledRow("상세내용", core.detailDescription());
+
+        // Logic 설명 섹션
+        createLogicSection(core);
+
+        // 파라미터 섹션
+        createParameterSection(core);
+
+        // 반환 타입 섹션
+        createReturnTypeSection(core);
+
+        try {
+            writer.endSheet(columnWidths.resolveWidths(2500, 8000, 8000));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void createLogicSection(CoreMethodDescriptor core) {
+        // Logic 설명 헤더
+        nextRow();
+        createCell(0, "Logic 설명", STYLE_HEADER);
+        createEmptyCells(1, 5, STYLE_HEADER);
+        addMergedRegion(0, 5);
+
+        nextRow();
+        createCell(0, "번호", STYLE_HEADER);
+        createCell(1, "내용", STYLE_HEADER);
+        createCell(2, "비고", STYLE_HEADER);
+        createEmptyCells(3, 5, STYLE_HEADER);
+        addMergedRegion(2, 5);
+
+        List<String> logicDescriptions = core.logicDescriptions();
+        for (int i = 0; i < Math.max(logicDescriptions.size(), 2); i++) {
+            nextRow();
+            createCell(0, String.valueOf(i + 1), STYLE_DATA);
+            createCell(1, i < logicDescriptions.size() ? logicDescriptions.get(i) : "", STYLE_DATA);
+            createEmptyCells(2, 5, STYLE_DATA);
+            addMergedRegion(2, 5);
+        }
+    }
+
+    private void createParameterSection(CoreMethodDescriptor core) {
+        // 파라미터 헤더 (첫 셀만 있고 오른쪽 끝은 테두리만)
+        nextRow();
+        createCell(0, "파라미터", STYLE_HEADER);
+        addMergedRegion(0, 5);
+        createCell(5, "", STYLE_RIGHT_BORDER);
+
+        nextRow();
+        createCell(0, "속성", STYLE_HEADER);
+        createCell(1, "타입", STYLE_HEADER);
+        createCell(2, "필수여부", STYLE_HEADER);
+        createCell(3, "설명", STYLE_HEADER);
+        createCell(4, "옵션", STYLE_HEADER);
+        createCell(5, "비고", STYLE_HEADER);
+
+        // 파라미터 데이터 (최소 2개 행)
+        List<ParameterDescriptor> parameters = core.parameters();
+        for (int i = 0; i < Math.max(Math.max(1, parameters.size()), 2); i++) {
+            nextRow();
+            ParameterDescriptor param = i < parameters.size() ? parameters.get(i) : null;
+            createCell(0, param != null ? param.name() : "", STYLE_DATA);
+            createCell(1, param != null ? param.type() : "", STYLE_DATA);
+            createCell(2, param != null ? param.required() : "", STYLE_DATA);
+            createCell(3, param != null ? param.description() : "", STYLE_DATA);
+            createEmptyCells(4, 5, STYLE_DATA); // 옵션, 비고
+        }
+    }
+
+    private void createReturnTypeSection(CoreMethodDescriptor core) {
+        // 요청예시 헤더
+        nextRow();
+        createCell(0, "요청예시", STYLE_HEADER);
+        createEmptyCells(1, 5, STYLE_HEADER);
+        addMergedRegion(0, 5);
+
+        // 반환 타입 헤더 ("비고" 는 병합 영역 C:F 안의 D열, CoreSheetRenderer 와 동일)
+        nextRow();
+        createCell(0, "타입", STYLE_HEADER);
+        createCell(1, "Content", STYLE_HEADER);
+        createEmptyCells(2, 5, STYLE_HEADER);
+        createCell(3, "비고", STYLE_HEADER);
+        addMergedRegion(2, 5);
+
+        // 반환 타입 데이터 (3개 행)
+        for (int i = 0; i < 3; i++) {
+            nextRow();
+            createCell(0, i == 0 ? core.returnType() : "", STYLE_DATA);
+            createCell(1, i == 0 ? "Content" : "", STYLE_DATA);
+            createEmptyCells(2, 5, STYLE_DATA);
+            addMergedRegion(2, 5);
+        }
+    }
+
+    private void createLabeledRow(String label, String value) {
+        nextRow();
+        createCell(0, label, STYLE_HEADER);
+        createCell(1, value, STYLE_DATA);
+        createEmptyCells(2, 5, STYLE_DATA);
+        addMergedRegion(1, 5);
+    }
+
+    // 유틸리티 메소드들
+    private void nextRow() {
+        writer.row(++currentRow);
+    }
+
+    private void createEmptyCells(int fromCol, int toCol, int style) {
+        for (int col = fromCol; col <= toCol; col++) {
+            writer.cell(col, "", style);
+        }
+    }
+
+    private void createCell(int column, String value, int style) {
+        writer.cell(column, value, style);
+        columnWidths.record(currentRow, column, value);
+    }
+
+    private void addMergedRegion(int firstColumn, int lastColumn) {
+        writer.merge(currentRow, currentRow, firstColumn, lastColumn);
+        columnWidths.merged(currentRow, currentRow, firstColumn, lastColumn);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileTypes.FileTypeRegistry;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
+import com.intellij.psi.search.searches.AnnotatedElementsSearch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 가이드 대상 클래스 수집
+ * - 파일/폴더/패키지를 선택한 경우: 폴더는 하위까지 어노테이션 인덱스로 검색하고, 직접 선택한 Java 파일만 PSI 로 변환
+ * - 파일을 선택하지 않은 경우: 프로젝트/모듈 전체에서 어노테이션 인덱스로 대상 클래스를 찾는다.
+ *   (소스 파일을 하나씩 열어 PSI 를 만들지 않으므로 대형 프로젝트에서도 빠름)
+ */
+public class GuideClassCollector {
+
+    /** Biz 가이드 대상 (컨트롤러) */
+    public static final String[] CONTROLLER_ANNOTATIONS = {
+            "org.springframework.web.bind.annotation.RestController",
+            "org.springframework.stereotype.Controller"
+    };
+
+    /** Core 가이드 대상 (서비스) */
+    public static final String[] SERVICE_ANNOTATIONS = {
+            "org.springframework.stereotype.Service"
+    };
+
+    /** PSI 변환 시 read action 하나에서 처리할 파일 수 */
+    private static final int PSI_BATCH_SIZE = 200;
+
+    private GuideClassCollector() {
+    }
+
+    /**
+     * 선택한 파일/폴더에서 클래스 수집 (백그라운드 스레드에서 호출, read action 밖)
+     * 폴더(패키지, 소스 루트, 모듈 포함)는 하위까지 어노테이션 인덱스로 대상 클래스만 찾고,
+     * 직접 선택한 Java 파일만 PSI 로 변환한다. (DTO, 엔티티, 유틸 클래스는 폴더 선택으로 들어오지 않음)
+     * @param annotationFqns 폴더에서 찾을 대상 클래스 어노테이션
+     */
+    public static List<PsiClass> collectFromFiles(Project project, VirtualFile[] selection, ProgressIndicator indicator,
+                                                  String... annotationFqns) {
+        FileTypeRegistry fileTypes = FileTypeRegistry.getInstance();
+        List<VirtualFile> directories = new ArrayList<>();
+        List<VirtualFile> javaFiles = new ArrayList<>();
+        for (VirtualFile file : selection) {
+            if (file.isDirectory()) {
+                directories.add(file);
+            } else if (fileTypes.isFileOfType(file, JavaFileType.INSTANCE)) {
+                // 파일 타입은 확장자로 판단하므로 파일 내용/PSI 를 읽지 않음
+                javaFiles.add(file);
+            }
+        }
+
+        Set<PsiClass> classes = new LinkedHashSet<>();
+        for (int from = 0; from < javaFiles.size(); from += PSI_BATCH_SIZE) {
+            indicator.checkCanceled();
+            indicator.setFraction((double) from / javaFiles.size());
+
+            List<VirtualFile> batch = javaFiles.subList(from, Math.min(from + PSI_BATCH_SIZE, javaFiles.size()));
+            classes.addAll(ReadAction.nonBlocking(() -> toClasses(project, batch))
+                    .wrapProgress(indicator)
+                    .executeSynchronously());
+        }
+
+        if (!directories.isEmpty()) {
+            VirtualFile[] roots = directories.toArray(VirtualFile[]::new);
+            // 인덱스 검색은 인덱싱이 끝난 뒤(smart mode)에 수행 (제외 폴더는 인덱스에 없으므로 자동으로 빠짐)
+            classes.addAll(ReadAction.nonBlocking(() -> findAnnotatedClasses(project,
+                            GlobalSearchScopesCore.directoriesScope(project, true, roots), annotationFqns))
+                    .inSmartMode(project)
+                    .wrapProgress(indicator)
+                    .executeSynchronously());
+        }
+        return new ArrayList<>(classes);
+    }
+
+    private static List<PsiClass> toClasses(Project project, List<VirtualFile> files) {
+        PsiManager psiManager = PsiManager.getInstance(project);
+        List<PsiClass> classes = new ArrayList<>();
+        for (VirtualFile file : files) {
+            if (!file.isValid()) continue;
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile instanceof PsiJavaFile javaFile) {
+                for (PsiClass psiClass : javaFile.getClasses()) {
+                    if (psiClass.getQualifiedName() != null) {
+                        classes.add(psiClass);
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * 검색 범위 선택 (EDT 에서 호출)
+     * @param module 현재 선택된 모듈 (없으면 null)
+     * @return 선택한 검색 범위, 취소하면 null
+     */
+    public static GlobalSearchScope chooseScope(Project project, Module module) {
+        String[] options = module != null
+                ? new String[]{"프로젝트 전체", "모듈: " + module.getName(), "취소"}
+                : new String[]{"프로젝트 전체", "취소"};
+
+        int choice = Messages.showDialog(project,
+                "어노테이션 인덱스로 대상 클래스를 검색할 범위를 선택하세요.",
+                "가이드 생성 범위",
+                options, 0, Messages.getQuestionIcon());
+
+        if (choice == 0) {
+            return GlobalSearchScopesCore.projectProductionScope(project);
+        }
+        if (module != null && choice == 1) {
+            return module.getModuleScope(false);
+        }
+        return null;
+    }
+
+    /**
+     * 어노테이션 인덱스로 대상 클래스 검색 (smart mode 의 read action 안에서 호출)
+     * @return 정규화된 이름 순으로 정렬된 클래스 목록
+     */
+    public static List<PsiClass> findAnnotatedClasses(Project project, GlobalSearchScope scope, String... annotationFqns) {
+        GlobalSearchScope librariesScope = GlobalSearchScope.allScope(project);
+        Set<PsiClass> classes = new LinkedHashSet<>();
+
+        for (String annotationFqn : annotationFqns) {
+            PsiClass annotationClass = JavaPsiFacade.getInstance(project).findClass(annotationFqn, librariesScope);
+            if (annotationClass == null) continue;
+
+            for (PsiClass psiClass : AnnotatedElementsSearch.searchPsiClasses(annotationClass, scope).findAll()) {
+                if (psiClass.getQualifiedName() != null && !psiClass.isAnnotationType()) {
+                    classes.add(psiClass);
+                }
+            }
+        }
+
+        // 인덱스 결과 순서는 보장되지 않으므로 엑셀 시트 순서가 매번 같도록 정렬
+        List<PsiClass> sorted = new ArrayList<>(classes);
+        sorted.sort(Comparator.comparing(PsiClass::getQualifiedName));
+        return sorted;
+    }
+}
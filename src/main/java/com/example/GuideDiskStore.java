@@ -0,0 +1,234 @@
+package com.example;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 추출 결과 디스크 캐시 (IDE 재시작 후에도 유지)
+ * 파일 하나에 레코드를 이어 붙이는 단순한 바이너리 형식이며, 처음 사용할 때 파일 전체를 읽어 인덱스를 만든다.
+ * (memory-mapped 로 읽으면 매핑이 해제될 때까지 Windows 에서 파일을 교체/추가할 수 없으므로 힙으로 읽음)
+ *
+ * 파일 형식: [MAGIC][FORMAT_VERSION][서명 길이][서명] 뒤에 레코드 반복
+ * 서명은 플러그인/추출 로직 버전과 추출 옵션이며, 현재 서명과 다르면 저장된 레코드를 모두 버린다.
+ * 레코드: [레코드 길이][키][해시 개수][해시...][데이터 길이][데이터]
+ * 키는 "소스 파일 경로#클래스#메소드(파라미터)", 해시는 분석에 사용된 파일들의 내용 해시이다.
+ * 같은 키가 여러 번 저장되면 마지막 레코드가 유효하며, 불필요한 레코드가 많아지면 로드 시 파일을 다시 쓴다.
+ */
+public class GuideDiskStore {
+
+    private static final int MAGIC = 0x4E584743; // "NXGC"
+    private static final int HEADER_SIZE = 12;
+
+    private final Path file;
+    private final String signature;
+    private Map<String, Entry> index;
+    private DataOutputStream appender;
+    private boolean broken;
+
+    private record Entry(long[] hashes, byte[] data) {
+    }
+
+    /**
+     * @param signature 저장된 결과를 재사용할 수 있는 조건 (플러그인/추출 로직 버전, 추출 옵션)
+     */
+    public GuideDiskStore(Path file, String signature) {
+        this.file = file;
+        this.signature = signature;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * 저장된 결과 조회. 키가 없거나 내용 해시가 다르면 null
+     */
+    public synchronized <T> T get(String key, long[] hashes, DescriptorCodec<T> codec) {
+        if (!ensureLoaded()) return null;
+
+        Entry entry = index.get(key);
+        if (entry == null || !Arrays.equals(entry.hashes, hashes)) return null;
+
+        try {
+            return codec.read(new DataInputStream(new ByteArrayInputStream(entry.data)));
+        } catch (IOException | RuntimeException e) {
+            // 손상된 레코드는 무시하고 다시 추출
+            index.remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * 결과 저장 (파일 끝에 레코드 추가)
+     */
+    public synchronized <T> void put(String key, long[] hashes, T value, DescriptorCodec<T> codec) {
+        if (!ensureLoaded()) return;
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+            codec.write(new DataOutputStream(bytes), value);
+            Entry entry = new Entry(hashes.clone(), bytes.toByteArray());
+
+            if (appender == null) {
+                appender = new DataOutputStream(new BufferedOutputStream(
+                        Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+            }
+            writeRecord(appender, key, entry);
+            appender.flush();
+            index.put(key, entry);
+        } catch (IOException e) {
+            // 디스크 캐시는 보조 수단이므로 실패하면 이번 세션에서는 사용하지 않음
+            broken = true;
+            close();
+        }
+    }
+
+    /**
+     * 서명이 바뀌어 더 이상 사용하지 않는 저장소 (이후 조회/저장은 무시)
+     */
+    public synchronized void discard() {
+        broken = true;
+        close();
+    }
+
+    public synchronized void close() {
+        if (appender != null) {
+            try {
+                appender.close();
+            } catch (IOException ignored) {
+            }
+            appender = null;
+        }
+    }
+
+    private boolean ensureLoaded() {
+        if (broken) return false;
+        if (index != null) return true;
+
+        index = new HashMap<>();
+        try {
+            Files.createDirectories(file.getParent());
+            if (!Files.exists(file) || load()) {
+                // 새 파일, 형식/서명이 다른 파일, 또는 정리가 필요한 파일
+                rewrite();
+            }
+            return true;
+        } catch (IOException e) {
+            broken = true;
+            index = null;
+            return false;
+        }
+    }
+
+    /**
+     * 파일을 읽어 인덱스 생성
+     * @return 파일을 다시 써야 하는지 여부 (헤더/서명 불일치, 손상, 덮어쓴 레코드/삭제된 소스 파일이 많은 경우)
+     */
+    private boolean load() throws IOException {
+        long size = Files.size(file);
+        if (size < HEADER_SIZE || size > Integer.MAX_VALUE) return true;
+
+        try {
+            // 파일을 열어 둔 채로 다시 쓰지 않도록 한 번에 읽고 바로 닫음
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != DescriptorCodec.FORMAT_VERSION) return true;
+            if (!signature.equals(readString(buffer))) return true;
+
+            int records = 0;
+            while (buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    // 기록 도중 종료된 마지막 레코드 - 이후 내용은 버리고 다시 씀
+                    return true;
+                }
+                ByteBuffer record = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                records++;
+
+                String key = readString(record);
+                long[] hashes = new long[record.getInt()];
+                for (int i = 0; i < hashes.length; i++) {
+                    hashes[i] = record.getLong();
+                }
+                byte[] data = new byte[record.getInt()];
+                record.get(data);
+                index.put(key, new Entry(hashes, data));
+            }
+
+            // 소스 파일이 삭제된 항목 제거
+            index.keySet().removeIf(key -> !sourceExists(key));
+            return records > index.size() * 2 + 64;
+        } catch (RuntimeException e) {
+            // BufferUnderflowException 등 - 손상된 파일
+            index.clear();
+            return true;
+        }
+    }
+
+    private void rewrite() throws IOException {
+        close();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(DescriptorCodec.FORMAT_VERSION);
+            byte[] signatureBytes = signature.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(signatureBytes.length);
+            out.write(signatureBytes);
+            for (Map.Entry<String, Entry> entry : index.entrySet()) {
+                writeRecord(out, entry.getKey(), entry.getValue());
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeRecord(DataOutputStream out, String key, Entry entry) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int length = Integer.BYTES + keyBytes.length
+                + Integer.BYTES + entry.hashes.length * Long.BYTES
+                + Integer.BYTES + entry.data.length;
+
+        out.writeInt(length);
+        out.writeInt(keyBytes.length);
+        out.write(keyBytes);
+        out.writeInt(entry.hashes.length);
+        for (long hash : entry.hashes) {
+            out.writeLong(hash);
+        }
+        out.writeInt(entry.data.length);
+        out.write(entry.data);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) throw new BufferUnderflowException();
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean sourceExists(String key) {
+        int end = key.indexOf('#');
+        if (end <= 0) return true;
+        try {
+            return Files.exists(Paths.get(key.substring(0, end)));
+        } catch (RuntimeException e) {
+            // jar 내부 경로 등 파일 시스템 경로가 아닌 경우
+            return true;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.example;
+
+/**
+ * 가이드 엑셀 생성 옵션
+ * IDE 실행 시 VM 옵션(-Dnexgen.guide.*)으로 변경할 수 있다.
+ */
+public class GuideExportOptions {
+
+    /**
+     * 워크북 생성 방식
+     * AUTO: 메소드 수가 임계값을 넘으면 STREAMING, 아니면 IN_MEMORY
+     * DIRECT: POI 객체 모델 없이 시트 XML 을 직접 작성 (SpreadsheetMLWriter, Biz/Core 가이드 고정 레이아웃)
+     */
+    public enum WorkbookMode {
+        AUTO,
+        IN_MEMORY,
+        STREAMING,
+        DIRECT
+    }
+
+    /**
+     * 시트 구성 방식
+     * PER_METHOD: API(메소드)마다 시트 1개
+     * COMPACT: 모든 API 를 한 시트에 요약 행 + 접을 수 있는 상세 행 묶음으로 작성 (시트 최대 행 수를 넘으면 다음 시트)
+     * AUTO: 메소드 수가 compactThreshold 를 넘으면 COMPACT, 아니면 PER_METHOD
+     */
+    public enum SheetLayout {
+        PER_METHOD,
+        COMPACT,
+        AUTO
+    }
+
+    /**
+     * 워크북 분할(샤딩) 기준
+     * NONE: 분할하지 않음 (워크북 1개)
+     * CLASS: 메소드가 속한 클래스(Biz: 컨트롤러, Core: 서비스)별로 분할
+     * PACKAGE: 클래스의 패키지별로 분할
+     * SIZE: 구분 없이 shardSize 개씩 분할
+     * NONE 이 아니면 선택한 파일은 샤드 파일로 연결되는 목차 워크북이 되고, 어느 기준이든 샤드 1개는 shardSize 개를 넘지 않는다.
+     */
+    public enum ShardBy {
+        NONE,
+        CLASS,
+        PACKAGE,
+        SIZE
+    }
+
+    private WorkbookMode workbookMode = WorkbookMode.AUTO;
+    private int streamingThreshold = 500;
+    private int streamingRowWindow = 100;
+    private int extractionThreads = Runtime.getRuntime().availableProcessors();
+    private int pipelineQueueSize = 64;
+    private int cacheSize = 5000;
+    private boolean diskCacheEnabled = true;
+    private int logicAnalysisDepth = 0;
+    private int regressionThresholdPercent = 50;
+    private boolean templateEnabled = false;
+    private SheetLayout sheetLayout = SheetLayout.PER_METHOD;
+    private int compactThreshold = 2000;
+    private ShardBy shardBy = ShardBy.NONE;
+    private int shardSize = 500;
+    private int shardThreads = Runtime.getRuntime().availableProcessors();
+
+    public static GuideExportOptions fromSystemProperties() {
+        GuideExportOptions options = new GuideExportOptions();
+        String mode = System.getProperty("nexgen.guide.workbookMode");
+        if (mode != null && !mode.isBlank()) {
+            try {
+                options.setWorkbookMode(WorkbookMode.valueOf(mode.trim().toUpperCase()));
+            } catch (IllegalArgumentException ignored) {
+                // 알 수 없는 값이면 기본값(AUTO) 유지
+            }
+        }
+        options.setStreamingThreshold(Integer.getInteger("nexgen.guide.streamingThreshold", options.streamingThreshold));
+        options.setStreamingRowWindow(Integer.getInteger("nexgen.guide.streamingRowWindow", options.streamingRowWindow));
+        options.setExtractionThreads(Integer.getInteger("nexgen.guide.extractionThreads", options.extractionThreads));
+        options.setPipelineQueueSize(Integer.getInteger("nexgen.guide.pipelineQueueSize", options.pipelineQueueSize));
+        options.setCacheSize(Integer.getInteger("nexgen.guide.cacheSize", options.cacheSize));
+        String diskCache = System.getProperty("nexgen.guide.diskCache");
+        if (diskCache != null && !diskCache.isBlank()) {
+            options.setDiskCacheEnabled(Boolean.parseBoolean(diskCache.trim()));
+        }
+        options.setLogicAnalysisDepth(Integer.getInteger("nexgen.guide.logicAnalysisDepth", options.logicAnalysisDepth));
+        options.setRegressionThresholdPercent(Integer.getInteger("nexgen.guide.regressionThreshold", options.regressionThresholdPercent));
+        options.setTemplateEnabled(Boolean.getBoolean("nexgen.guide.template"));
+        String layout = System.getProperty("nexgen.guide.layout");
+        if (layout != null && !layout.isBlank()) {
+            try {
+                options.setSheetLayout(SheetLayout.valueOf(layout.trim().toUpperCase()));
+            } catch (IllegalArgumentException ignored) {
+                // 알 수 없는 값이면 기본값(PER_METHOD) 유지
+            }
+        }
+        options.setCompactThreshold(Integer.getInteger("nexgen.guide.compactThreshold", options.compactThreshold));
+        String shardBy = System.getProperty("nexgen.guide.shardBy");
+        if (shardBy != null && !shardBy.isBlank()) {
+            try {
+                options.setShardBy(ShardBy.valueOf(shardBy.trim().toUpperCase()));
+            } catch (IllegalArgumentException ignored) {
+                // 알 수 없는 값이면 기본값(NONE) 유지
+            }
+        }
+        options.setShardSize(Integer.getInteger("nexgen.guide.shardSize", options.shardSize));
+        options.setShardThreads(Integer.getInteger("nexgen.guide.shardThreads", options.shardThreads));
+        return options;
+    }
+
+    /**
+     * POI 워크북 대신 SpreadsheetMLWriter 로 직접 작성할지 여부
+     */
+    public boolean useDirectWriter() {
+        return workbookMode == WorkbookMode.DIRECT;
+    }
+
+    /**
+     * 생성할 시트(API 메소드) 수 기준으로 스트리밍 워크북 사용 여부 결정
+     */
+    public boolean useStreaming(int methodCount) {
+        switch (workbookMode) {
+            case STREAMING:
+                return true;
+            case IN_MEMORY:
+                return false;
+            default:
+                return methodCount > streamingThreshold;
+        }
+    }
+
+    /**
+     * 생성할 메소드 수 기준으로 압축 레이아웃 사용 여부 결정
+     * 압축 레이아웃은 항상 스트리밍 워크북으로 작성하므로 workbookMode/템플릿 설정보다 우선한다.
+     */
+    public boolean useCompactLayout(int methodCount) {
+        switch (sheetLayout) {
+            case COMPACT:
+                return true;
+            case AUTO:
+                return methodCount > compactThreshold;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 고정 영역을 템플릿(templates/guide-template.xlsx) 골격 시트 복제로 그릴지 여부
+     * 시트 복제는 XSSF 워크북에서만 가능하므로 DIRECT/스트리밍 워크북을 쓰는 경우에는 사용하지 않는다.
+     */
+    public boolean useTemplate(int methodCount) {
+        return templateEnabled && !useCompactLayout(methodCount) && !useDirectWriter() && !useStreaming(methodCount);
+    }
+
+    /**
+     * 여러 워크북 + 목차 워크북으로 나누어 생성할지 여부
+     */
+    public boolean useSharding() {
+        return shardBy != ShardBy.NONE;
+    }
+
+    public WorkbookMode getWorkbookMode() {
+        return workbookMode;
+    }
+
+    public void setWorkbookMode(WorkbookMode workbookMode) {
+        this.workbookMode = workbookMode;
+    }
+
+    public int getStreamingThreshold() {
+        return streamingThreshold;
+    }
+
+    public void setStreamingThreshold(int streamingThreshold) {
+        this.streamingThreshold = Math.max(0, streamingThreshold);
+    }
+
+    public int getStreamingRowWindow() {
+        return streamingRowWindow;
+    }
+
+    public void setStreamingRowWindow(int streamingRowWindow) {
+        this.streamingRowWindow = Math.max(1, streamingRowWindow);
+    }
+
+    /**
+     * PSI 추출 스레드 수 (기본값: CPU 코어 수, 1이면 순차 추출)
+     */
+    public int getExtractionThreads() {
+        return extractionThreads;
+    }
+
+    public void setExtractionThreads(int extractionThreads) {
+        this.extractionThreads = Math.max(1, extractionThreads);
+    }
+
+    /**
+     * 추출이 끝났지만 아직 시트로 작성되지 않은 메소드의 최대 개수 (메모리 상한)
+     */
+    public int getPipelineQueueSize() {
+        return pipelineQueueSize;
+    }
+
+    public void setPipelineQueueSize(int pipelineQueueSize) {
+        this.pipelineQueueSize = Math.max(1, pipelineQueueSize);
+    }
+
+    /**
+     * 메소드별 추출 결과 캐시의 최대 항목 수 (0이면 캐시 사용 안 함)
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = Math.max(0, cacheSize);
+    }
+
+    /**
+     * IDE 재시작 후에도 유지되는 디스크 캐시 사용 여부 (cacheSize 가 0이면 함께 비활성화)
+     */
+    public boolean isDiskCacheEnabled() {
+        return diskCacheEnabled;
+    }
+
+    public void setDiskCacheEnabled(boolean diskCacheEnabled) {
+        this.diskCacheEnabled = diskCacheEnabled;
+    }
+
+    /**
+     * 추출 결과에 영향을 주는 옵션 (추출 캐시 키와 디스크 캐시 헤더에 포함)
+     */
+    public String extractionSignature() {
+        return "logicAnalysisDepth=" + logicAnalysisDepth;
+    }
+
+    /**
+     * Core 가이드의 로직 설명 생성 시 서비스 메소드 호출을 따라 들어가는 최대 깊이
+     * (기본값 0: 서비스 분석 안 함, 기존 출력과 동일)
+     */
+    public int getLogicAnalysisDepth() {
+        return logicAnalysisDepth;
+    }
+
+    public void setLogicAnalysisDepth(int logicAnalysisDepth) {
+        this.logicAnalysisDepth = Math.max(0, logicAnalysisDepth);
+    }
+
+    /**
+     * 테스트 실행 시간이 이전 실행 중앙값보다 몇 % 이상 늘어나면 성능 회귀로 볼지 (기본값: 50)
+     */
+    public int getRegressionThresholdPercent() {
+        return regressionThresholdPercent;
+    }
+
+    public void setRegressionThresholdPercent(int regressionThresholdPercent) {
+        this.regressionThresholdPercent = Math.max(1, regressionThresholdPercent);
+    }
+
+    /**
+     * 템플릿 모드 사용 여부 (기본값: false, 실제 적용 여부는 {@link #useTemplate(int)})
+     * 고정 레이아웃/스타일을 엑셀에서 직접 고치기 위한 용도이며, 시트마다 골격 시트를 XML 로 직렬화/파싱해 복제하므로 코드 작성보다 빠르지 않다.
+     */
+    public boolean isTemplateEnabled() {
+        return templateEnabled;
+    }
+
+    public void setTemplateEnabled(boolean templateEnabled) {
+        this.templateEnabled = templateEnabled;
+    }
+
+    public SheetLayout getSheetLayout() {
+        return sheetLayout;
+    }
+
+    public void setSheetLayout(SheetLayout sheetLayout) {
+        this.sheetLayout = sheetLayout;
+    }
+
+    /**
+     * AUTO 레이아웃에서 압축 레이아웃으로 전환하는 메소드 수 (기본값: 2000)
+     */
+    public int getCompactThreshold() {
+        return compactThreshold;
+    }
+
+    public void setCompactThreshold(int compactThreshold) {
+        this.compactThreshold = Math.max(0, compactThreshold);
+    }
+
+    public ShardBy getShardBy() {
+        return shardBy;
+    }
+
+    public void setShardBy(ShardBy shardBy) {
+        this.shardBy = shardBy;
+    }
+
+    /**
+     * 샤드 워크북 1개의 최대 메소드 수 (메소드별 시트 레이아웃에서는 시트 수, 기본값: 500)
+     * 워크북 생성 방식/레이아웃의 AUTO 판단도 샤드별 메소드 수 기준으로 한다.
+     */
+    public int getShardSize() {
+        return shardSize;
+    }
+
+    public void setShardSize(int shardSize) {
+        this.shardSize = Math.max(1, shardSize);
+    }
+
+    /**
+     * 샤드 워크북을 동시에 렌더링/저장할 스레드 수 (기본값: CPU 코어 수, 1이면 한 번에 하나씩)
+     */
+    public int getShardThreads() {
+        return shardThreads;
+    }
+
+    public void setShardThreads(int shardThreads) {
+        this.shardThreads = Math.max(1, shardThreads);
+    }
+}
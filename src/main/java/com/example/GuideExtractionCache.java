@@ -0,0 +1,320 @@
+package com.example;
+
+import com.intellij.ide.plugins.PluginManager;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.extensions.PluginDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 메소드별 추출 결과 캐시 (프로젝트 단위)
+ * 변경되지 않은 프로젝트에서 가이드를 다시 생성하면 PSI 분석 없이 렌더링만 수행한다.
+ *
+ * 캐시 키는 추출 종류, 추출 옵션({@link GuideExportOptions#extractionSignature()}), 메소드이며,
+ * 값은 메소드가 분석 중 참조하는 파일들의 수정 스탬프와 함께 저장된다.
+ * - 메소드가 속한 파일
+ * - 클래스 필드(상속 필드 포함)가 선언된 파일
+ * - 필드 타입(주입된 Service/Repository 등) 클래스의 파일
+ * - 메소드(어노테이션, 파라미터, 본문)에서 참조하는 요소가 선언된 소스 파일 (다른 파일의 상수, static 유틸 메소드, DTO 등)
+ * - 참조한 소스 클래스의 상위 클래스와 필드 타입 클래스 파일 (중첩 DTO)
+ * - 호출하는 소스 메소드가 참조하는 파일 (로직 분석 깊이만큼 따라 들어감)
+ * 이 중 하나라도 수정되면 해당 메소드만 다시 분석한다.
+ * 프로젝트 전체 PSI 수정 횟수({@link PsiModificationTracker})가 그대로면 파일을 확인하지 않고 사용하며,
+ * 가상 파일이 없는 의존 파일이 있으면 전체 수정 횟수가 바뀔 때 다시 분석한다.
+ *
+ * 메모리 캐시에 없으면 IDE 시스템 디렉터리의 디스크 캐시({@link GuideDiskStore})를 조회한다.
+ * 디스크 캐시는 수정 스탬프 대신 같은 파일들의 내용 해시로 검증하므로 IDE 재시작 후에도 재사용된다.
+ * 플러그인/추출 로직 버전이나 추출 옵션이 바뀌면 디스크 캐시는 버리고 새로 만든다.
+ */
+@Service(Service.Level.PROJECT)
+public final class GuideExtractionCache implements Disposable {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, GuideDiskStore> diskStores = new ConcurrentHashMap<>();
+    // 파일 경로 -> {수정 스탬프, 내용 해시} (같은 파일을 메소드마다 다시 해시하지 않도록)
+    private final Map<String, long[]> contentHashes = new ConcurrentHashMap<>();
+    private final Path diskCacheDir;
+
+    /**
+     * @param modificationCount 마지막으로 확인했을 때의 프로젝트 PSI 수정 횟수
+     * @param files 의존 파일 (가상 파일이 없으면 null)
+     */
+    private record Entry(long modificationCount, VirtualFile[] files, long[] stamps, Object value) {
+    }
+
+    public GuideExtractionCache(Project project) {
+        this.diskCacheDir = Paths.get(PathManager.getSystemPath(), "nexgen-guide", project.getLocationHash());
+    }
+
+    public static GuideExtractionCache getInstance(Project project) {
+        return project.getService(GuideExtractionCache.class);
+    }
+
+    /**
+     * 캐시된 추출 결과를 반환하거나, 없거나 오래된 경우 새로 추출 (read action 안에서 호출)
+     * @param codec 추출 종류 (Biz/Core 구분 및 디스크 캐시 직렬화)
+     */
+    public static <T> T cached(GuideExportOptions options, DescriptorCodec<T> codec, PsiMethod method, Supplier<T> extractor) {
+        int maxSize = options.getCacheSize();
+        if (maxSize == 0) {
+            return extractor.get();
+        }
+        return getInstance(method.getProject()).getOrCompute(codec, method, options, extractor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrCompute(DescriptorCodec<T> codec, PsiMethod method, GuideExportOptions options, Supplier<T> extractor) {
+        String methodKey = methodKey(method);
+        String key = codec.kind() + ":" + options.extractionSignature() + ":" + methodKey;
+        Project project = method.getProject();
+        long modificationCount = PsiModificationTracker.getInstance(project).getModificationCount();
+
+        Entry cachedEntry;
+        synchronized (entries) {
+            cachedEntry = entries.get(key);
+        }
+        if (cachedEntry != null) {
+            if (cachedEntry.modificationCount == modificationCount) {
+                return (T) cachedEntry.value;
+            }
+            if (isUnchanged(project, cachedEntry)) {
+                put(key, new Entry(modificationCount, cachedEntry.files, cachedEntry.stamps, cachedEntry.value), options.getCacheSize());
+                return (T) cachedEntry.value;
+            }
+        }
+
+        List<PsiFile> files = dependencyFiles(method, options.getLogicAnalysisDepth());
+
+        GuideDiskStore diskStore = options.isDiskCacheEnabled() ? diskStore(codec, storeSignature(options)) : null;
+        long[] hashes = null;
+        T value = null;
+        if (diskStore != null) {
+            hashes = contentHashes(files);
+            value = diskStore.get(methodKey, hashes, codec);
+        }
+
+        if (value == null) {
+            // 분석은 락 밖에서 수행 (다른 추출 스레드를 막지 않음)
+            value = extractor.get();
+            if (value == null) return null;
+            if (diskStore != null) {
+                diskStore.put(methodKey, hashes, value, codec);
+            }
+        }
+
+        VirtualFile[] virtualFiles = new VirtualFile[files.size()];
+        long[] stamps = new long[files.size()];
+        for (int i = 0; i < stamps.length; i++) {
+            virtualFiles[i] = files.get(i).getVirtualFile();
+            stamps[i] = files.get(i).getModificationStamp();
+        }
+        put(key, new Entry(modificationCount, virtualFiles, stamps, value), options.getCacheSize());
+        return value;
+    }
+
+    private void put(String key, Entry entry, int maxSize) {
+        synchronized (entries) {
+            entries.put(key, entry);
+            // 가장 오래 사용되지 않은 항목부터 제거
+            var iterator = entries.values().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private GuideDiskStore diskStore(DescriptorCodec<?> codec, String signature) {
+        return diskStores.compute(codec.kind(), (kind, store) -> {
+            if (store != null && store.getSignature().equals(signature)) return store;
+            // 옵션이 바뀐 경우 - 이전 저장소는 사용을 멈추고, 새 서명으로 다시 열면 기존 레코드는 버려짐
+            if (store != null) store.discard();
+            return new GuideDiskStore(diskCacheDir.resolve(kind + ".bin"), signature);
+        });
+    }
+
+    /**
+     * 디스크 캐시 재사용 조건: 플러그인 버전, 추출 로직 버전, 추출 옵션
+     */
+    private static String storeSignature(GuideExportOptions options) {
+        PluginDescriptor plugin = PluginManager.getPluginByClass(GuideExtractionCache.class);
+        return "plugin=" + (plugin != null ? plugin.getVersion() : "")
+                + ";extractor=" + DescriptorCodec.EXTRACTOR_VERSION
+                + ";" + options.extractionSignature();
+    }
+
+    @Override
+    public void dispose() {
+        for (GuideDiskStore store : diskStores.values()) {
+            store.close();
+        }
+    }
+
+    private static String methodKey(PsiMethod method) {
+        StringBuilder key = new StringBuilder();
+        PsiFile file = method.getContainingFile();
+        if (file != null && file.getVirtualFile() != null) {
+            key.append(file.getVirtualFile().getPath());
+        }
+        PsiClass clazz = method.getContainingClass();
+        key.append('#').append(clazz != null ? clazz.getQualifiedName() : "");
+        key.append('#').append(method.getName()).append('(');
+        PsiParameter[] parameters = method.getParameterList().getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (i > 0) key.append(',');
+            key.append(parameters[i].getType().getCanonicalText());
+        }
+        return key.append(')').toString();
+    }
+
+    // 저장 후 의존 파일이 수정되지 않았는지 (다른 파일만 수정된 경우)
+    private static boolean isUnchanged(Project project, Entry entry) {
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (int i = 0; i < entry.files.length; i++) {
+            VirtualFile virtualFile = entry.files[i];
+            if (virtualFile == null || !virtualFile.isValid()) return false;
+            PsiFile file = psiManager.findFile(virtualFile);
+            if (file == null || file.getModificationStamp() != entry.stamps[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 추출 결과에 영향을 주는 파일 (클래스 설명 참고)
+     * @param callDepth 호출하는 메소드를 따라 들어가는 깊이
+     */
+    private static List<PsiFile> dependencyFiles(PsiMethod method, int callDepth) {
+        Set<PsiFile> files = new LinkedHashSet<>();
+        PsiFile containingFile = method.getContainingFile();
+        if (containingFile != null) files.add(containingFile);
+
+        PsiClass clazz = method.getContainingClass();
+        if (clazz != null) {
+            for (PsiField field : clazz.getAllFields()) {
+                PsiFile fieldFile = field.getContainingFile();
+                if (fieldFile != null) files.add(fieldFile);
+
+                PsiType fieldType = field.getType();
+                if (fieldType instanceof PsiClassType classType) {
+                    PsiClass fieldClass = classType.resolve();
+                    if (fieldClass != null && fieldClass.getContainingFile() != null) {
+                        files.add(fieldClass.getContainingFile());
+                    }
+                }
+            }
+        }
+        collectReferences(method, callDepth, files, new HashSet<>(), new HashSet<>());
+        return new ArrayList<>(files);
+    }
+
+    // 요소 안의 참조가 가리키는 소스 파일 (라이브러리 클래스는 제외)
+    private static void collectReferences(PsiElement element, int callDepth, Set<PsiFile> files,
+                                          Set<PsiMethod> visitedMethods, Set<PsiClass> visitedClasses) {
+        for (PsiJavaCodeReferenceElement reference : PsiTreeUtil.findChildrenOfType(element, PsiJavaCodeReferenceElement.class)) {
+            PsiElement target = reference.resolve();
+            if (target == null || target instanceof PsiCompiledElement) continue;
+
+            PsiFile targetFile = target.getContainingFile();
+            if (targetFile == null || targetFile instanceof PsiCompiledElement) continue;
+            files.add(targetFile);
+
+            if (target instanceof PsiClass targetClass) {
+                collectClass(targetClass, files, visitedClasses);
+            } else if (target instanceof PsiMethod callee && callDepth > 0 && visitedMethods.add(callee)) {
+                collectReferences(callee, callDepth - 1, files, visitedMethods, visitedClasses);
+            }
+        }
+    }
+
+    // 소스 클래스의 상위 클래스와 필드 타입 (요청 예시 등에서 필드를 따라 들어가는 DTO)
+    private static void collectClass(PsiClass clazz, Set<PsiFile> files, Set<PsiClass> visited) {
+        if (clazz instanceof PsiCompiledElement || !visited.add(clazz)) return;
+        PsiFile classFile = clazz.getContainingFile();
+        if (classFile == null || classFile instanceof PsiCompiledElement) return;
+        files.add(classFile);
+
+        for (PsiClass superClass : clazz.getSupers()) {
+            collectClass(superClass, files, visited);
+        }
+        for (PsiField field : clazz.getFields()) {
+            collectType(field.getType(), files, visited);
+        }
+    }
+
+    private static void collectType(PsiType type, Set<PsiFile> files, Set<PsiClass> visited) {
+        if (!(type instanceof PsiClassType classType)) return;
+        PsiClass resolved = classType.resolve();
+        if (resolved != null) {
+            collectClass(resolved, files, visited);
+        }
+        // List<ItemDto> 등 타입 인자
+        for (PsiType parameter : classType.getParameters()) {
+            collectType(parameter, files, visited);
+        }
+    }
+
+    private long[] contentHashes(List<PsiFile> files) {
+        long[] hashes = new long[files.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = contentHash(files.get(i));
+        }
+        return hashes;
+    }
+
+    private long contentHash(PsiFile file) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile == null) {
+            return hash(file.getViewProvider().getContents());
+        }
+        if (file instanceof PsiCompiledElement) {
+            // 라이브러리 클래스는 디컴파일하지 않고 jar 의 시각/크기로 판단
+            return virtualFile.getTimeStamp() * 31 + virtualFile.getLength();
+        }
+
+        long stamp = file.getModificationStamp();
+        long[] cached = contentHashes.get(virtualFile.getPath());
+        if (cached != null && cached[0] == stamp) {
+            return cached[1];
+        }
+        long hash = hash(file.getViewProvider().getContents());
+        contentHashes.put(virtualFile.getPath(), new long[]{stamp, hash});
+        return hash;
+    }
+
+    // 64비트 FNV-1a
+    private static long hash(CharSequence text) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 가이드 템플릿 워크북 (resources/templates/guide-template.xlsx)
+ * Biz/Core 시트의 고정 영역(헤더, 기본 정보, Logic 설명 헤더)을 미리 그려 둔 골격 시트와
+ * 렌더러가 나머지 영역에 쓸 스타일 견본 시트로 구성된다.
+ *
+ * 템플릿 파일은 처음 사용할 때 한 번만 읽어 두고, 생성할 때마다 그 바이트로 새 워크북을 연다.
+ * 렌더링이 끝나면 {@link #removeTemplateSheets(XSSFWorkbook)} 로 템플릿 시트를 지운 뒤 저장한다.
+ */
+final class GuideTemplate {
+
+    static final String RESOURCE = "/templates/guide-template.xlsx";
+
+    static final String BIZ_SKELETON = "_biz_template";
+    static final String CORE_SKELETON = "_core_template";
+    static final String STYLE_SAMPLES = "_styles";
+
+    // 골격 시트에 미리 그려 둔 행 수 (Biz: 메인 헤더 ~ Logic 설명 컬럼 헤더, Core: API Name ~ Logic 설명 컬럼 헤더)
+    static final int BIZ_SKELETON_ROWS = 11;
+    static final int CORE_SKELETON_ROWS = 6;
+
+    // 스타일 견본 시트의 행 번호 (A열 셀의 스타일을 사용)
+    static final int GRAY_HEADER = 0;
+    static final int DATA = 1;
+    static final int CATEGORY = 2;
+    static final int NON_BOTTOM_CATEGORY = 3;
+    static final int FIRST_COLUMN_CATEGORY = 4;
+    static final int FIRST_COLUMN_DATA = 5;
+    static final int RIGHT_BORDER = 6;
+
+    private static byte[] templateBytes;
+
+    private GuideTemplate() {
+    }
+
+    /**
+     * 템플릿으로 새 워크북 열기 (템플릿 파일은 최초 1회만 읽음)
+     */
+    static XSSFWorkbook open() throws IOException {
+        return new XSSFWorkbook(new ByteArrayInputStream(templateBytes()));
+    }
+
+    private static synchronized byte[] templateBytes() throws IOException {
+        if (templateBytes == null) {
+            try (InputStream in = GuideTemplate.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new FileNotFoundException("템플릿 리소스가 없습니다: " + RESOURCE);
+                }
+                templateBytes = in.readAllBytes();
+            }
+        }
+        return templateBytes;
+    }
+
+    /**
+     * 골격 시트 번호
+     * @throws IllegalStateException 템플릿에 해당 시트가 없는 경우
+     */
+    static int skeletonIndex(XSSFWorkbook workbook, String skeletonName) {
+        int index = workbook.getSheetIndex(skeletonName);
+        if (index < 0) {
+            throw new IllegalStateException("템플릿에 골격 시트가 없습니다: " + skeletonName);
+        }
+        return index;
+    }
+
+    /**
+     * 스타일 견본 시트의 셀 스타일 (템플릿 워크북의 스타일 표를 그대로 공유)
+     */
+    static CellStyle sampleStyle(XSSFWorkbook workbook, int sampleRow) {
+        Sheet samples = workbook.getSheet(STYLE_SAMPLES);
+        Row row = samples != null ? samples.getRow(sampleRow) : null;
+        if (row == null || row.getCell(0) == null) {
+            throw new IllegalStateException("템플릿에 스타일 견본이 없습니다: " + STYLE_SAMPLES + "!A" + (sampleRow + 1));
+        }
+        return row.getCell(0).getCellStyle();
+    }
+
+    /**
+     * 저장 전에 골격/스타일 견본 시트 제거 (복제된 API 시트만 남김)
+     */
+    static void removeTemplateSheets(XSSFWorkbook workbook) {
+        for (String name : sheetNames()) {
+            int index = workbook.getSheetIndex(name);
+            if (index >= 0) {
+                workbook.removeSheetAt(index);
+            }
+        }
+        if (workbook.getNumberOfSheets() > 0) {
+            workbook.setActiveSheet(0);
+            workbook.setSelectedTab(0);
+        }
+    }
+
+    /**
+     * 템플릿 시트 이름 (API 시트 이름과 겹치지 않도록 렌더러가 미리 예약)
+     */
+    static String[] sheetNames() {
+        return new String[]{BIZ_SKELETON, CORE_SKELETON, STYLE_SAMPLES};
+    }
+}
@@ -0,0 +1,113 @@
+package com.example;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.util.PsiModificationTracker;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클래스별 주입 필드 인덱스 (가이드 생성 1회 단위, 여러 추출 스레드에서 함께 사용)
+ * 컨트롤러의 서비스 필드, 서비스의 레포지토리 필드를 클래스마다 한 번만 수집하여
+ * 같은 클래스의 모든 API 메소드와 이 클래스를 참조하는 다른 클래스에서 재사용한다.
+ *
+ * 분류는 기존 기준(@Autowired 필드, 이름에 'service'/'repository' 가 포함된 필드)을 그대로 따르고,
+ * 생성자 주입 final 필드(직접 작성한 생성자 또는 Lombok 생성자)는 타입 이름이 Service/Repository 인 경우에만 추가한다.
+ * (생성자 주입 필드에는 ObjectMapper 등 다른 의존성도 있으므로 주입 여부만으로 분류하지 않음)
+ */
+public class InjectedFieldIndex {
+
+    private static final String AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
+    private static final String[] LOMBOK_CONSTRUCTORS = {
+            "lombok.RequiredArgsConstructor",
+            "lombok.AllArgsConstructor"
+    };
+
+    private final Map<PsiClass, ClassFields> classes = new ConcurrentHashMap<>();
+
+    /**
+     * @param serviceFields 서비스 필드 (필드 이름 -> 타입 표시 이름)
+     * @param repositoryFields 레포지토리 필드 이름
+     * @param modificationCount 수집 시점의 PSI 수정 횟수 (쓰기 작업 후에는 다시 수집)
+     */
+    private record ClassFields(Map<String, String> serviceFields, List<String> repositoryFields, long modificationCount) {
+    }
+
+    /**
+     * 서비스 필드 (@Autowired 필드, 이름에 'service' 가 포함된 필드, 타입이 Service 인 생성자 주입 필드): 필드 이름 -> 타입 표시 이름
+     */
+    public Map<String, String> serviceFields(PsiClass psiClass) {
+        return fields(psiClass).serviceFields;
+    }
+
+    /**
+     * 레포지토리 필드 (@Autowired 필드, 이름에 'repository' 가 포함된 필드, 타입이 Repository 인 생성자 주입 필드) 이름 목록
+     */
+    public List<String> repositoryFields(PsiClass psiClass) {
+        return fields(psiClass).repositoryFields;
+    }
+
+    private ClassFields fields(PsiClass psiClass) {
+        long modificationCount = PsiModificationTracker.getInstance(psiClass.getProject()).getModificationCount();
+        ClassFields cached = classes.get(psiClass);
+        if (cached != null && cached.modificationCount == modificationCount) {
+            return cached;
+        }
+
+        ClassFields collected = collect(psiClass, modificationCount);
+        classes.put(psiClass, collected);
+        return collected;
+    }
+
+    private static ClassFields collect(PsiClass psiClass, long modificationCount) {
+        Map<String, String> serviceFields = new LinkedHashMap<>();
+        List<String> repositoryFields = new ArrayList<>();
+
+        for (PsiField field : psiClass.getAllFields()) {
+            String fieldName = field.getName();
+            String typeName = field.getType().getPresentableText();
+            boolean autowired = isAutowired(field);
+            // 생성자 주입 필드는 타입 이름으로만 후보에 추가
+            boolean constructorInjected = !autowired && isConstructorInjected(field);
+
+            if (autowired || fieldName.toLowerCase().contains("service")
+                    || (constructorInjected && typeName.toLowerCase().contains("service"))) {
+                serviceFields.put(fieldName, typeName);
+            }
+            if (autowired || fieldName.toLowerCase().contains("repository")
+                    || (constructorInjected && typeName.toLowerCase().contains("repository"))) {
+                repositoryFields.add(fieldName);
+            }
+        }
+        return new ClassFields(serviceFields, List.copyOf(repositoryFields), modificationCount);
+    }
+
+    private static boolean isAutowired(PsiField field) {
+        return field.hasAnnotation(AUTOWIRED) || field.hasAnnotation("Autowired");
+    }
+
+    private static boolean isConstructorInjected(PsiField field) {
+        // 생성자 주입: 초기값 없는 인스턴스 final 필드를 파라미터가 있는 생성자에서 할당
+        if (!field.hasModifierProperty(PsiModifier.FINAL)
+                || field.hasModifierProperty(PsiModifier.STATIC)
+                || field.getInitializer() != null) {
+            return false;
+        }
+        PsiClass owner = field.getContainingClass();
+        if (owner == null) return false;
+
+        for (String lombok : LOMBOK_CONSTRUCTORS) {
+            if (owner.hasAnnotation(lombok)) return true;
+        }
+        for (PsiMethod constructor : owner.getConstructors()) {
+            if (!constructor.getParameterList().isEmpty()) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로직 설명 생성({@link CommonAction#generateLogicDescriptions}) 의 호출 그래프 분석 상태 (가이드 생성 1회 단위)
+ * - 서비스 메소드 분석 결과를 메소드별로 저장하여, 여러 API 에서 호출되는 서비스도 한 번만 분석
+ * - 서로 호출하는 메소드(순환 호출)는 분석 중인 메소드 목록으로 감지하여 중단
+ * - 서비스 호출을 따라 들어가는 최대 깊이 제한
+ * 여러 추출 스레드에서 함께 사용한다.
+ *
+ * 순환 호출 생략 여부는 분석 경로(어느 메소드에서 들어왔는지)에 따라 달라지므로,
+ * 순환 호출을 생략한 결과는 저장하지 않고, 저장된 결과도 그 분석에서 들어간 메소드가 현재 분석 경로에 없을 때만 사용한다.
+ * 따라서 결과는 스레드 실행 순서와 무관하게 분석 경로만으로 정해진다.
+ */
+public class LogicAnalysisContext {
+
+    private final int maxDepth;
+    private final Map<MemoKey, Memo> memo = new ConcurrentHashMap<>();
+    // 현재 스레드에서 분석 중인 메소드 (바깥 -> 안쪽 순서로 쌓임, 순환 호출 감지)
+    private final ThreadLocal<Deque<Frame>> path = ThreadLocal.withInitial(ArrayDeque::new);
+
+    // 같은 메소드라도 남은 깊이에 따라 결과가 다르므로 깊이를 함께 키로 사용
+    private record MemoKey(PsiMethod method, int remainingDepth) {
+    }
+
+    /**
+     * 분석 후 파일이 수정되면(다음 read action 전 쓰기 작업) 다시 분석
+     * @param reached 이 결과를 만들 때 들어간 메소드 (자기 자신 포함)
+     */
+    private record Memo(long stamp, List<String> descriptions, Set<PsiMethod> reached) {
+    }
+
+    // 분석 중인 메소드 1개: 하위 분석에서 들어간 메소드와 순환 호출 생략 여부를 모음
+    private static final class Frame {
+        final PsiMethod method;
+        final Set<PsiMethod> reached = new HashSet<>();
+        boolean cycleCut;
+
+        Frame(PsiMethod method) {
+            this.method = method;
+            reached.add(method);
+        }
+    }
+
+    /**
+     * @param maxDepth 서비스 호출을 따라 들어가는 최대 깊이 (0이면 서비스 분석 안 함)
+     */
+    public LogicAnalysisContext(int maxDepth) {
+        this.maxDepth = Math.max(0, maxDepth);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * 저장된 분석 결과 (없거나, 파일이 수정되었거나, 현재 분석 경로에 따라 결과가 달라질 수 있으면 null)
+     */
+    List<String> getMemo(PsiMethod method, int remainingDepth) {
+        Memo cached = memo.get(new MemoKey(method, remainingDepth));
+        if (cached == null || cached.stamp != stamp(method)) return null;
+
+        Deque<Frame> frames = path.get();
+        for (Frame frame : frames) {
+            if (cached.reached.contains(frame.method)) {
+                // 지금 분석하면 순환 호출로 생략될 메소드가 포함된 결과
+                return null;
+            }
+        }
+        Frame current = frames.peek();
+        if (current != null) {
+            current.reached.addAll(cached.reached);
+        }
+        return cached.descriptions;
+    }
+
+    /**
+     * 분석 결과 저장
+     * @param reached {@link #exit} 가 돌려준 들어간 메소드 목록 (null 이면 순환 호출을 생략한 결과이므로 저장하지 않음)
+     */
+    void putMemo(PsiMethod method, int remainingDepth, List<String> descriptions, Set<PsiMethod> reached) {
+        if (reached == null) return;
+        memo.put(new MemoKey(method, remainingDepth), new Memo(stamp(method), List.copyOf(descriptions), reached));
+    }
+
+    /**
+     * 분석 시작 표시
+     * @return 이미 분석 중이면(순환 호출) false - 현재 분석 중인 메소드에 순환 호출 생략을 기록
+     */
+    boolean enter(PsiMethod method) {
+        Deque<Frame> frames = path.get();
+        for (Frame frame : frames) {
+            if (frame.method.equals(method)) {
+                frames.peek().cycleCut = true;
+                return false;
+            }
+        }
+        frames.push(new Frame(method));
+        return true;
+    }
+
+    /**
+     * 분석 종료 표시 (들어간 메소드와 순환 호출 생략 여부는 바깥 메소드에 합침)
+     * @return 이 분석에서 들어간 메소드 목록, 순환 호출을 생략했으면 null
+     */
+    Set<PsiMethod> exit(PsiMethod method) {
+        Deque<Frame> frames = path.get();
+        Frame frame = frames.pop();
+        Frame outer = frames.peek();
+        if (outer != null) {
+            outer.reached.addAll(frame.reached);
+            outer.cycleCut |= frame.cycleCut;
+        }
+        return frame.cycleCut ? null : Collections.unmodifiableSet(frame.reached);
+    }
+
+    private static long stamp(PsiMethod method) {
+        PsiFile file = method.getContainingFile();
+        return file != null ? file.getModificationStamp() : 0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 시트 1개의 병합 영역 모음
+ * sheet.addMergedRegion 은 추가할 때마다 시트의 기존 병합 영역 전체와 겹침을 검사하므로 영역 수의 제곱에 비례한다.
+ * 여기서는 영역을 모아 두었다가 시작 행 순으로 한 번 훑어 겹침을 검사하고(현재 행에 걸친 영역끼리만 비교),
+ * 검사 없는 addMergedRegionUnsafe 로 한꺼번에 추가한다.
+ */
+public class MergePlanner {
+
+    private static final Comparator<CellRangeAddress> BY_POSITION =
+            Comparator.comparingInt(CellRangeAddress::getFirstRow).thenComparingInt(CellRangeAddress::getFirstColumn);
+
+    private final List<CellRangeAddress> regions = new ArrayList<>();
+    // 겹침 검사 중 현재 행에 걸쳐 있는 영역
+    private final List<CellRangeAddress> active = new ArrayList<>();
+
+    /**
+     * 병합 영역 추가 (시트에는 {@link #commit(Sheet)} 시점에 반영)
+     */
+    public void add(CellRangeAddress region) {
+        if (region.getNumberOfCells() < 2) {
+            throw new IllegalArgumentException("병합 영역은 2개 이상의 셀이어야 합니다: " + region.formatAsString());
+        }
+        regions.add(region);
+    }
+
+    /**
+     * 겹침 검사 후 모아 둔 병합 영역을 시트에 추가하고 목록을 비운다.
+     * @throws IllegalStateException 서로 겹치는 영역이 있는 경우 (sheet.addMergedRegion 과 동일)
+     */
+    public void commit(Sheet sheet) {
+        try {
+            // 렌더러는 행 순서대로 추가하므로 대부분 이미 정렬되어 있음 (TimSort 는 선형)
+            regions.sort(BY_POSITION);
+            checkOverlaps();
+            for (CellRangeAddress region : regions) {
+                sheet.addMergedRegionUnsafe(region);
+            }
+        } finally {
+            regions.clear();
+            active.clear();
+        }
+    }
+
+    private void checkOverlaps() {
+        for (CellRangeAddress region : regions) {
+            // 현재 영역보다 위에서 끝난 영역은 더 이상 겹칠 수 없음
+            active.removeIf(previous -> previous.getLastRow() < region.getFirstRow());
+
+            for (CellRangeAddress previous : active) {
+                if (previous.getFirstColumn() <= region.getLastColumn() && region.getFirstColumn() <= previous.getLastColumn()) {
+                    throw new IllegalStateException("병합 영역이 겹칩니다: "
+                            + previous.formatAsString() + ", " + region.formatAsString());
+                }
+            }
+            active.add(region);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.psi.PsiMethod;
+import com.intellij.util.concurrency.AppExecutorUtil;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 메소드별 PSI 추출을 여러 스레드에서 동시에 수행하고, 결과를 단일 writer 에 순서대로 전달하는 파이프라인
+ * 메소드마다 분석이 서로 독립적이므로 각 메소드를 별도의 non-blocking read action 으로 처리한다.
+ *
+ * - 결과 순서는 입력 순서와 같다 (스레드 수와 무관하게 동일한 엑셀이 생성됨)
+ * - writer 는 호출 스레드에서 실행되며, 추출과 시트 작성이 겹쳐서 진행된다
+ * - 아직 작성되지 않은 결과는 최대 queueCapacity 개까지만 유지 (writer 가 느리면 추출도 대기)
+ */
+public class ParallelExtractor {
+
+    private static final Logger LOG = Logger.getInstance(ParallelExtractor.class);
+
+    /** 결과 대기 중 취소 여부를 확인하는 주기 */
+    private static final long CANCEL_CHECK_MILLIS = 50;
+
+    /**
+     * 메소드 1개 추출 (read action 안에서 호출됨). 건너뛸 메소드는 null 반환
+     */
+    public interface MethodExtractor<T> {
+        T extract(PsiMethod method);
+    }
+
+    private ParallelExtractor() {
+    }
+
+    /**
+     * 모든 메소드를 추출하면서 결과를 입력 순서대로 writer 에 전달
+     * @param threads 동시에 실행할 추출 스레드 수 (1 이하이면 현재 스레드에서 추출/작성 순차 실행)
+     * @param queueCapacity 추출이 끝났지만 아직 작성되지 않은 결과의 최대 개수
+     * @param writer 추출 결과 처리 (호출 스레드에서 실행, null 결과는 전달하지 않음)
+     */
+    public static <T> void extractInOrder(List<PsiMethod> methods, MethodExtractor<T> extractor, int threads, int queueCapacity,
+                                          ProgressIndicator indicator, Consumer<T> writer) {
+        extractInOrder(methods, extractor, threads, queueCapacity, indicator, 0, methods.size(), writer);
+    }
+
+    /**
+     * 전체 작업의 일부(예: 워크북 샤드 1개)로 추출 - 진행률은 (progressOffset + 완료 수) / progressTotal 로 표시
+     * @param progressOffset 이전 단계에서 완료한 메소드 수
+     * @param progressTotal 전체 메소드 수
+     */
+    public static <T> void extractInOrder(List<PsiMethod> methods, MethodExtractor<T> extractor, int threads, int queueCapacity,
+                                          ProgressIndicator indicator, int progressOffset, int progressTotal, Consumer<T> writer) {
+        long start = System.nanoTime();
+        int workers = Math.max(1, Math.min(threads, methods.size()));
+        Progress progress = new Progress(indicator, progressOffset, Math.max(progressTotal, progressOffset + methods.size()));
+        long waitNanos = workers == 1
+                ? extractSequentially(methods, extractor, indicator, progress, writer)
+                : extractConcurrently(methods, extractor, workers, Math.max(workers, queueCapacity), indicator, progress, writer);
+
+        LOG.info(String.format("가이드 생성 완료: 메소드 %d개, 추출 스레드 %d개, 전체 %d ms (writer 대기 %d ms)",
+                methods.size(), workers,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+    }
+
+    private static <T> long extractSequentially(List<PsiMethod> methods, MethodExtractor<T> extractor,
+                                                ProgressIndicator indicator, Progress progress, Consumer<T> writer) {
+        int done = 0;
+        for (PsiMethod method : methods) {
+            indicator.checkCanceled();
+            progress.update(done);
+
+            T result = extract(method, extractor, indicator);
+            done++;
+            if (result != null) writer.accept(result);
+        }
+        return 0;
+    }
+
+    private static <T> long extractConcurrently(List<PsiMethod> methods, MethodExtractor<T> extractor, int workers, int queueCapacity,
+                                                ProgressIndicator indicator, Progress progress, Consumer<T> writer) {
+        ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("NexGen Guide Extraction", workers);
+        // 제출 순서 = 입력 순서. 크기가 queueCapacity 를 넘지 않도록 writer 가 하나 꺼낼 때마다 하나 제출
+        ArrayDeque<Future<T>> pending = new ArrayDeque<>(queueCapacity);
+        Iterator<PsiMethod> remaining = methods.iterator();
+        long waitNanos = 0;
+        int done = 0;
+        try {
+            while (pending.size() < queueCapacity && remaining.hasNext()) {
+                pending.add(submit(executor, remaining.next(), extractor, indicator));
+            }
+
+            while (!pending.isEmpty()) {
+                long waitStart = System.nanoTime();
+                T result = await(pending.peek(), indicator);
+                waitNanos += System.nanoTime() - waitStart;
+
+                pending.poll();
+                if (remaining.hasNext()) {
+                    pending.add(submit(executor, remaining.next(), extractor, indicator));
+                }
+
+                if (result != null) writer.accept(result);
+                progress.update(++done);
+            }
+            return waitNanos;
+        } finally {
+            // 취소 또는 오류 시 남은 작업 중단
+            for (Future<T> future : pending) {
+                future.cancel(true);
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    // 진행률 표시 (전체 작업 중 이번 추출이 차지하는 구간)
+    private record Progress(ProgressIndicator indicator, int offset, int total) {
+
+        void update(int done) {
+            if (total > 0) indicator.setFraction((double) (offset + done) / total);
+        }
+    }
+
+    private static <T> Future<T> submit(ExecutorService executor, PsiMethod method, MethodExtractor<T> extractor, ProgressIndicator indicator) {
+        return executor.submit(() -> extract(method, extractor, indicator));
+    }
+
+    private static <T> T extract(PsiMethod method, MethodExtractor<T> extractor, ProgressIndicator indicator) {
+        // 짧은 non-blocking read action (쓰기 작업이 오면 재시작)
+        return ReadAction.nonBlocking(() -> method.isValid() ? extractor.extract(method) : null)
+                .wrapProgress(indicator)
+                .executeSynchronously();
+    }
+
+    private static <T> T await(Future<T> future, ProgressIndicator indicator) {
+        while (true) {
+            indicator.checkCanceled();
+            try {
+                return future.get(CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 취소 여부 다시 확인
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessCanceledException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+}
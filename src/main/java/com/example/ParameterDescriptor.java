@@ -0,0 +1,19 @@
+package com.example;
+
+/**
+ * API 메소드 파라미터 정보 (PSI 참조 없이 문자열만 보관)
+ *
+ * @param name        파라미터명 (@RequestParam/@PathVariable value 가 있으면 해당 값)
+ * @param type        타입 표시명
+ * @param required    필수 여부 표시값 (Biz: Y/N, Core: 필수/선택)
+ * @param description 설명
+ */
+public record ParameterDescriptor(String name, String type, String required, String description) {
+
+    public ParameterDescriptor {
+        name = name != null ? name : "";
+        type = type != null ? type : "";
+        required = required != null ? required : "";
+        description = description != null ? description : "";
+    }
+}
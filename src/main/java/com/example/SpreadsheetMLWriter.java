@@ -0,0 +1,467 @@
+package com.example;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * POI 객체 모델을 거치지 않고 .xlsx(SpreadsheetML) 를 직접 쓰는 writer
+ * 시트 XML 은 시트 하나 분량만 버퍼에 모았다가 바로 zip 으로 내보내고, 문자열은 공유 문자열 표(sharedStrings.xml)로 모은다.
+ * Row/Cell/CellRangeAddress 객체를 만들지 않으며, 값이 없는 셀은 스타일만 기록하거나(테두리 유지) 아예 기록하지 않는다.
+ *
+ * 스타일은 Biz/Core 가이드 레이아웃이 사용하는 고정 표(STYLE_*)만 제공하고, 셀 값은 문자열만 지원한다.
+ * 같은 행의 셀은 {@link #endSheet(int[])} 또는 다음 {@link #row(int)} 호출 전까지 덮어쓸 수 있다 (열 순서와 무관하게 기록 가능).
+ */
+public class SpreadsheetMLWriter implements Closeable {
+
+    /** 기본 스타일 */
+    public static final int STYLE_DEFAULT = 0;
+    /** 굵은 글꼴, 회색 배경, 가운데 정렬, 얇은 테두리 (헤더/카테고리) */
+    public static final int STYLE_HEADER = 1;
+    /** 왼쪽/위 정렬, 얇은 테두리 (데이터) */
+    public static final int STYLE_DATA = 2;
+    /** STYLE_HEADER 에서 아래 테두리만 제외 */
+    public static final int STYLE_HEADER_OPEN_BOTTOM = 3;
+    /** 오른쪽 테두리만 (병합 영역 오른쪽 끝 셀) */
+    public static final int STYLE_RIGHT_BORDER = 4;
+
+    /** 엑셀 셀 최대 문자 수 */
+    private static final int MAX_CELL_LENGTH = 32767;
+    /** 컬럼 너비 단위 (문자 1칸 = 1/256) */
+    private static final double UNITS_PER_CHAR = 256.0;
+    /** 미리 계산해 두는 열 이름 (A, B, ...) */
+    private static final String[] COLUMN_NAMES = new String[64];
+
+    static {
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            COLUMN_NAMES[i] = computeColumnName(i);
+        }
+    }
+
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private static final String STYLES_XML = XML_DECLARATION
+            + "<styleSheet xmlns=\"" + MAIN_NS + "\">"
+            + "<fonts count=\"2\">"
+            + "<font><sz val=\"11\"/><color theme=\"1\"/><name val=\"Calibri\"/><family val=\"2\"/><scheme val=\"minor\"/></font>"
+            + "<font><b/><sz val=\"11\"/><color indexed=\"8\"/><name val=\"Calibri\"/><family val=\"2\"/><scheme val=\"minor\"/></font>"
+            + "</fonts>"
+            + "<fills count=\"3\">"
+            + "<fill><patternFill patternType=\"none\"/></fill>"
+            + "<fill><patternFill patternType=\"gray125\"/></fill>"
+            + "<fill><patternFill patternType=\"solid\"><fgColor indexed=\"22\"/><bgColor indexed=\"64\"/></patternFill></fill>"
+            + "</fills>"
+            + "<borders count=\"4\">"
+            + "<border><left/><right/><top/><bottom/><diagonal/></border>"
+            + "<border><left style=\"thin\"/><right style=\"thin\"/><top style=\"thin\"/><bottom style=\"thin\"/><diagonal/></border>"
+            + "<border><left style=\"thin\"/><right style=\"thin\"/><top style=\"thin\"/><bottom/><diagonal/></border>"
+            + "<border><left/><right style=\"thin\"/><top/><bottom/><diagonal/></border>"
+            + "</borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"5\">"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"2\" borderId=\"1\" xfId=\"0\" applyFont=\"1\" applyFill=\"1\" applyBorder=\"1\" applyAlignment=\"1\">"
+            + "<alignment horizontal=\"center\" vertical=\"center\" wrapText=\"1\"/></xf>"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"1\" xfId=\"0\" applyBorder=\"1\" applyAlignment=\"1\">"
+            + "<alignment horizontal=\"left\" vertical=\"top\" wrapText=\"1\"/></xf>"
+            + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"2\" borderId=\"2\" xfId=\"0\" applyFont=\"1\" applyFill=\"1\" applyBorder=\"1\" applyAlignment=\"1\">"
+            + "<alignment horizontal=\"center\" vertical=\"center\" wrapText=\"1\"/></xf>"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"3\" xfId=\"0\" applyBorder=\"1\"/>"
+            + "</cellXfs>"
+            + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+            + "</styleSheet>";
+
+    private final ZipOutputStream zip;
+    private final Writer out;
+    private final char[] copyBuffer = new char[8192];
+
+    // 공유 문자열 표 (문자열 -> 인덱스, 등록 순서)
+    private final Map<String, Integer> sharedStringIndex = new HashMap<>();
+    private final List<String> sharedStrings = new ArrayList<>();
+    private long sharedStringReferences;
+
+    private final List<String> sheetNames = new ArrayList<>();
+    private final Set<String> usedSheetNames = new HashSet<>();
+
+    // 작성 중인 시트 (sheetData 내용, 병합 영역: 4개 값씩 firstRow, lastRow, firstCol, lastCol)
+    private boolean sheetOpen;
+    private final StringBuilder sheetData = new StringBuilder(1 << 14);
+    private int[] merges = new int[64];
+    private int mergeCount;
+
+    // 작성 중인 행 (열별 공유 문자열 인덱스(-1: 값 없음)와 스타일)
+    private int currentRow = -1;
+    private float currentRowHeight;
+    private int[] rowValues = new int[16];
+    private int[] rowStyles = new int[16];
+    private int rowCellLimit;
+
+    public SpreadsheetMLWriter(OutputStream outputStream) {
+        this.zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        // 시트 XML 은 반복이 많아 가장 빠른 압축으로도 충분히 작아진다
+        this.zip.setLevel(Deflater.BEST_SPEED);
+        this.out = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    /**
+     * 새 시트 시작. 이름은 엑셀 규칙에 맞게 정리하고 중복이면 "_번호" 를 붙인다.
+     * @return 실제 시트 이름
+     */
+    public String startSheet(String name) {
+        if (sheetOpen) {
+            throw new IllegalStateException("이전 시트가 끝나지 않았습니다: " + sheetNames.get(sheetNames.size() - 1));
+        }
+        String sheetName = sanitizeSheetName(name);
+        sheetNames.add(sheetName);
+        sheetOpen = true;
+        sheetData.setLength(0);
+        mergeCount = 0;
+        currentRow = -1;
+        return sheetName;
+    }
+
+    /**
+     * 다음 행 시작 (행 번호는 0부터, 증가 순서로만 호출). 이전 행은 이 시점에 기록된다.
+     */
+    public void row(int rowIndex) {
+        if (rowIndex <= currentRow) {
+            throw new IllegalStateException("행은 증가 순서로 작성해야 합니다: " + rowIndex + " <= " + currentRow);
+        }
+        flushRow();
+        currentRow = rowIndex;
+        currentRowHeight = 0;
+        rowCellLimit = 0;
+    }
+
+    /**
+     * 현재 행 높이 (포인트)
+     */
+    public void rowHeight(float heightInPoints) {
+        currentRowHeight = heightInPoints;
+    }
+
+    /**
+     * 현재 행의 셀 기록 (같은 열에 다시 기록하면 덮어씀)
+     * @param value 빈 문자열/null 이면 값 없이 스타일만 기록
+     */
+    public void cell(int column, String value, int style) {
+        if (currentRow < 0) {
+            throw new IllegalStateException("row() 호출 전에는 셀을 기록할 수 없습니다");
+        }
+        if (column >= rowValues.length) {
+            int newLength = Math.max(column + 1, rowValues.length * 2);
+            rowValues = Arrays.copyOf(rowValues, newLength);
+            rowStyles = Arrays.copyOf(rowStyles, newLength);
+        }
+        // 새로 사용하는 열은 빈 셀로 초기화
+        for (int col = rowCellLimit; col <= column; col++) {
+            rowValues[col] = -1;
+            rowStyles[col] = -1;
+        }
+        rowCellLimit = Math.max(rowCellLimit, column + 1);
+
+        rowValues[column] = value == null || value.isEmpty() ? -1 : sharedString(value);
+        rowStyles[column] = style;
+    }
+
+    /**
+     * 병합 영역 기록 (행/열 번호는 0부터, 양 끝 포함)
+     */
+    public void merge(int firstRow, int lastRow, int firstColumn, int lastColumn) {
+        if (mergeCount * 4 == merges.length) {
+            merges = Arrays.copyOf(merges, merges.length * 2);
+        }
+        int i = mergeCount * 4;
+        merges[i] = firstRow;
+        merges[i + 1] = lastRow;
+        merges[i + 2] = firstColumn;
+        merges[i + 3] = lastColumn;
+        mergeCount++;
+    }
+
+    /**
+     * 시트 작성 완료. 시트 XML 을 zip 항목으로 내보낸다.
+     * @param columnWidths 열별 너비 (엑셀 너비 단위, 음수이면 기본 너비), null 이면 모두 기본 너비
+     */
+    public void endSheet(int[] columnWidths) throws IOException {
+        if (!sheetOpen) {
+            throw new IllegalStateException("작성 중인 시트가 없습니다");
+        }
+        flushRow();
+        sheetOpen = false;
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetNames.size() + ".xml"));
+        out.write(XML_DECLARATION);
+        out.write("<worksheet xmlns=\"" + MAIN_NS + "\" xmlns:r=\"" + REL_NS + "\">");
+        out.write("<sheetFormatPr defaultRowHeight=\"15.0\"/>");
+        writeColumns(columnWidths);
+        out.write("<sheetData>");
+        writeBuffer(sheetData);
+        out.write("</sheetData>");
+        if (mergeCount > 0) {
+            out.write("<mergeCells count=\"" + mergeCount + "\">");
+            for (int i = 0; i < mergeCount * 4; i += 4) {
+                out.write("<mergeCell ref=\"");
+                out.write(cellReference(merges[i], merges[i + 2]));
+                out.write(':');
+                out.write(cellReference(merges[i + 1], merges[i + 3]));
+                out.write("\"/>");
+            }
+            out.write("</mergeCells>");
+        }
+        out.write("<pageMargins left=\"0.7\" right=\"0.7\" top=\"0.75\" bottom=\"0.75\" header=\"0.3\" footer=\"0.3\"/>");
+        out.write("</worksheet>");
+        out.flush();
+        zip.closeEntry();
+    }
+
+    /**
+     * 워크북 구성 파일과 공유 문자열 표를 쓰고 zip 을 닫는다. 시트가 하나도 없으면 빈 시트를 추가한다.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (sheetOpen) {
+                endSheet(null);
+            }
+            if (sheetNames.isEmpty()) {
+                startSheet("Sheet1");
+                endSheet(null);
+            }
+
+            writeSharedStrings();
+            writeEntry("xl/styles.xml", STYLES_XML);
+            writeWorkbook();
+            writeEntry("_rels/.rels", XML_DECLARATION
+                    + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                    + "<Relationship Id=\"rId1\" Type=\"" + REL_NS + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                    + "</Relationships>");
+            writeContentTypes();
+            out.flush();
+            zip.finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    private int sharedString(String value) {
+        String text = value.length() > MAX_CELL_LENGTH ? value.substring(0, MAX_CELL_LENGTH) : value;
+        Integer index = sharedStringIndex.get(text);
+        if (index == null) {
+            index = sharedStrings.size();
+            sharedStrings.add(text);
+            sharedStringIndex.put(text, index);
+        }
+        return index;
+    }
+
+    private void flushRow() {
+        if (currentRow < 0) return;
+
+        boolean hasCells = false;
+        for (int col = 0; col < rowCellLimit; col++) {
+            if (rowStyles[col] > 0 || rowValues[col] >= 0) {
+                hasCells = true;
+                break;
+            }
+        }
+        if (!hasCells && currentRowHeight <= 0) return;
+
+        int rowNumber = currentRow + 1;
+        sheetData.append("<row r=\"").append(rowNumber).append('"');
+        if (currentRowHeight > 0) {
+            sheetData.append(" ht=\"").append(currentRowHeight).append("\" customHeight=\"1\"");
+        }
+        sheetData.append('>');
+
+        for (int col = 0; col < rowCellLimit; col++) {
+            int style = rowStyles[col];
+            int value = rowValues[col];
+            // 값도 스타일도 없는 셀은 기록하지 않음
+            if (value < 0 && style <= 0) continue;
+
+            sheetData.append("<c r=\"").append(columnName(col)).append(rowNumber).append('"');
+            if (style > 0) {
+                sheetData.append(" s=\"").append(style).append('"');
+            }
+            if (value >= 0) {
+                sharedStringReferences++;
+                sheetData.append(" t=\"s\"><v>").append(value).append("</v></c>");
+            } else {
+                sheetData.append("/>");
+            }
+        }
+        sheetData.append("</row>");
+        rowCellLimit = 0;
+    }
+
+    private void writeColumns(int[] columnWidths) throws IOException {
+        if (columnWidths == null) return;
+
+        boolean opened = false;
+        for (int col = 0; col < columnWidths.length; col++) {
+            if (columnWidths[col] < 0) continue;
+            if (!opened) {
+                out.write("<cols>");
+                opened = true;
+            }
+            out.write("<col min=\"" + (col + 1) + "\" max=\"" + (col + 1)
+                    + "\" width=\"" + (columnWidths[col] / UNITS_PER_CHAR) + "\" customWidth=\"1\"/>");
+        }
+        if (opened) {
+            out.write("</cols>");
+        }
+    }
+
+    private void writeSharedStrings() throws IOException {
+        zip.putNextEntry(new ZipEntry("xl/sharedStrings.xml"));
+        out.write(XML_DECLARATION);
+        out.write("<sst xmlns=\"" + MAIN_NS + "\" count=\"" + sharedStringReferences + "\" uniqueCount=\"" + sharedStrings.size() + "\">");
+        for (String text : sharedStrings) {
+            boolean preserve = Character.isWhitespace(text.charAt(0)) || Character.isWhitespace(text.charAt(text.length() - 1));
+            out.write(preserve ? "<si><t xml:space=\"preserve\">" : "<si><t>");
+            writeEscaped(text);
+            out.write("</t></si>");
+        }
+        out.write("</sst>");
+        out.flush();
+        zip.closeEntry();
+    }
+
+    private void writeWorkbook() throws IOException {
+        zip.putNextEntry(new ZipEntry("xl/workbook.xml"));
+        out.write(XML_DECLARATION);
+        out.write("<workbook xmlns=\"" + MAIN_NS + "\" xmlns:r=\"" + REL_NS + "\">");
+        out.write("<bookViews><workbookView/></bookViews><sheets>");
+        for (int i = 0; i < sheetNames.size(); i++) {
+            out.write("<sheet name=\"");
+            writeEscaped(sheetNames.get(i));
+            out.write("\" sheetId=\"" + (i + 1) + "\" r:id=\"rId" + (i + 1) + "\"/>");
+        }
+        out.write("</sheets></workbook>");
+        out.flush();
+        zip.closeEntry();
+
+        // 관계: rId1..N 시트, 그 다음 스타일/공유 문자열
+        zip.putNextEntry(new ZipEntry("xl/_rels/workbook.xml.rels"));
+        out.write(XML_DECLARATION);
+        out.write("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            out.write("<Relationship Id=\"rId" + i + "\" Type=\"" + REL_NS + "/worksheet\" Target=\"worksheets/sheet" + i + ".xml\"/>");
+        }
+        int next = sheetNames.size() + 1;
+        out.write("<Relationship Id=\"rId" + next + "\" Type=\"" + REL_NS + "/styles\" Target=\"styles.xml\"/>");
+        out.write("<Relationship Id=\"rId" + (next + 1) + "\" Type=\"" + REL_NS + "/sharedStrings\" Target=\"sharedStrings.xml\"/>");
+        out.write("</Relationships>");
+        out.flush();
+        zip.closeEntry();
+    }
+
+    private void writeContentTypes() throws IOException {
+        zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+        out.write(XML_DECLARATION);
+        out.write("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">");
+        out.write("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>");
+        out.write("<Default Extension=\"xml\" ContentType=\"application/xml\"/>");
+        out.write("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>");
+        out.write("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        out.write("<Override PartName=\"/xl/sharedStrings.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sharedStrings+xml\"/>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            out.write("<Override PartName=\"/xl/worksheets/sheet" + i
+                    + ".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        out.write("</Types>");
+        out.flush();
+        zip.closeEntry();
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        out.write(content);
+        out.flush();
+        zip.closeEntry();
+    }
+
+    // StringBuilder 를 String 으로 복사하지 않고 나누어 기록
+    private void writeBuffer(StringBuilder buffer) throws IOException {
+        int length = buffer.length();
+        for (int start = 0; start < length; start += copyBuffer.length) {
+            int end = Math.min(length, start + copyBuffer.length);
+            buffer.getChars(start, end, copyBuffer, 0);
+            out.write(copyBuffer, 0, end - start);
+        }
+    }
+
+    /**
+     * XML 텍스트/속성 값 이스케이프 (XML 1.0 에서 허용되지 않는 제어 문자는 제거)
+     */
+    private void writeEscaped(String text) throws IOException {
+        int runStart = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement;
+            switch (c) {
+                case '&' -> replacement = "&amp;";
+                case '<' -> replacement = "&lt;";
+                case '>' -> replacement = "&gt;";
+                case '"' -> replacement = "&quot;";
+                default -> replacement = c < 0x20 && c != '\t' && c != '\n' && c != '\r' || c == 0xFFFE || c == 0xFFFF ? "" : null;
+            }
+            if (replacement != null) {
+                out.write(text, runStart, i - runStart);
+                out.write(replacement);
+                runStart = i + 1;
+            }
+        }
+        out.write(text, runStart, text.length() - runStart);
+    }
+
+    private String sanitizeSheetName(String name) {
+        String sanitized = name.replaceAll("[\\\\/?*\\[\\]]", "");
+        if (sanitized.length() > 31) {
+            sanitized = sanitized.substring(0, 31);
+        }
+
+        String uniqueName = sanitized;
+        int counter = 1;
+        while (usedSheetNames.contains(uniqueName)) {
+            uniqueName = sanitized.substring(0, Math.min(28, sanitized.length())) + "_" + counter;
+            counter++;
+        }
+
+        usedSheetNames.add(uniqueName);
+        return uniqueName;
+    }
+
+    private static String columnName(int column) {
+        return column < COLUMN_NAMES.length ? COLUMN_NAMES[column] : computeColumnName(column);
+    }
+
+    private static String computeColumnName(int column) {
+        StringBuilder name = new StringBuilder(3);
+        for (int n = column + 1; n > 0; n = (n - 1) / 26) {
+            name.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    private static String cellReference(int row, int column) {
+        return columnName(column) + (row + 1);
+    }
+}
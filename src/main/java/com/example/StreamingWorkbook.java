@@ -0,0 +1,157 @@
+package com.example;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.GZIPSheetDataWriter;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 대용량 API 목록용 스트리밍 워크북 (SXSSF)
+ * 시트마다 rowWindow 개의 행만 메모리에 유지하고, 나머지 행은 gzip 압축 임시 파일로 내보낸다.
+ *
+ * 기본 SXSSF 는 시트마다 임시 파일 스트림(및 Deflater)을 저장 시점까지 열어 두기 때문에
+ * 수천 개의 시트를 만들면 파일 핸들과 네이티브 메모리가 고갈된다.
+ * 여기서는 완성된 시트의 스트림을 {@link #finishSheet(Sheet)} 에서 닫아 두고, 필요하면 이어쓰기 모드로 다시 연다.
+ */
+public class StreamingWorkbook extends SXSSFWorkbook {
+
+    private final Map<Sheet, SpillingSheetDataWriter> writers = new IdentityHashMap<>();
+    private SpillingSheetDataWriter lastCreatedWriter;
+
+    public StreamingWorkbook(int rowWindow) {
+        super(new XSSFWorkbook(), rowWindow, true);
+    }
+
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        lastCreatedWriter = new SpillingSheetDataWriter();
+        return lastCreatedWriter;
+    }
+
+    @Override
+    public SXSSFSheet createSheet(String sheetname) {
+        SXSSFSheet sheet = super.createSheet(sheetname);
+        writers.put(sheet, lastCreatedWriter);
+        return sheet;
+    }
+
+    /**
+     * 시트 작성이 끝났을 때 호출. 남은 행을 임시 파일로 내보내고 파일 스트림을 닫는다.
+     */
+    public void finishSheet(Sheet sheet) {
+        SpillingSheetDataWriter writer = writers.get(sheet);
+        if (writer == null) return;
+        try {
+            ((SXSSFSheet) sheet).flushRows();
+            writer.park();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            // 임시 파일 삭제
+            dispose();
+        }
+    }
+
+    /**
+     * 임시 파일 스트림을 필요할 때만 여는 gzip 시트 데이터 writer
+     * gzip 멤버를 이어 붙이는 방식이라 GZIPInputStream 으로 그대로 읽을 수 있다.
+     */
+    private static class SpillingSheetDataWriter extends GZIPSheetDataWriter {
+
+        SpillingSheetDataWriter() throws IOException {
+            super();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Writer createWriter(File fd) {
+            return new ReopenableWriter(fd, this);
+        }
+
+        void park() throws IOException {
+            ((ReopenableWriter) _out).park();
+        }
+
+        OutputStreamWriter open(File fd, boolean append) throws IOException {
+            return new OutputStreamWriter(decorateOutputStream(new FileOutputStream(fd, append)), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class ReopenableWriter extends Writer {
+        private final File file;
+        private final SpillingSheetDataWriter owner;
+        private Writer delegate;
+        private boolean opened;
+
+        ReopenableWriter(File file, SpillingSheetDataWriter owner) {
+            this.file = file;
+            this.owner = owner;
+        }
+
+        private Writer delegate() throws IOException {
+            if (delegate == null) {
+                delegate = new BufferedWriter(owner.open(file, opened));
+                opened = true;
+            }
+            return delegate;
+        }
+
+        void park() throws IOException {
+            if (!opened) {
+                // 빈 시트도 유효한 gzip 파일이 되도록 한 번은 연다
+                delegate();
+            }
+            if (delegate != null) {
+                delegate.close();
+                delegate = null;
+            }
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            delegate().write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            delegate().write(str, off, len);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            delegate().write(c);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (delegate != null) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            park();
+        }
+    }
+}
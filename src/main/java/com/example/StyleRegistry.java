@@ -0,0 +1,132 @@
+package com.example;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 워크북 1개의 셀 스타일/폰트 모음
+ * 스타일을 속성({@link Spec})으로 찾아 같은 속성이면 같은 CellStyle 을 돌려준다.
+ * 렌더러/시트마다 같은 스타일을 따로 만들면 styles.xml 에 중복 항목(xf, font)이 쌓이므로,
+ * 서로 다른 스타일과 폰트는 워크북당 한 번만 생성한다.
+ */
+public class StyleRegistry {
+
+    /**
+     * 셀 스타일 속성 (null / false 인 항목은 POI 기본값 유지)
+     * @param fillColor 단색 채우기 색 (IndexedColors 인덱스)
+     * @param fontColor 폰트 색 (IndexedColors 인덱스)
+     * @param dataFormat 표시 형식 (예: "0.000")
+     */
+    public record Spec(
+            HorizontalAlignment alignment,
+            VerticalAlignment verticalAlignment,
+            BorderStyle borderTop,
+            BorderStyle borderBottom,
+            BorderStyle borderLeft,
+            BorderStyle borderRight,
+            Short fillColor,
+            boolean bold,
+            Short fontColor,
+            boolean wrapText,
+            String dataFormat) {
+
+        /** 속성이 하나도 없는 스타일 */
+        public static final Spec PLAIN = new Spec(null, null, null, null, null, null, null, false, null, false, null);
+
+        public Spec align(HorizontalAlignment alignment, VerticalAlignment verticalAlignment) {
+            return new Spec(alignment, verticalAlignment, borderTop, borderBottom, borderLeft, borderRight, fillColor, bold, fontColor, wrapText, dataFormat);
+        }
+
+        /** 네 방향 테두리 */
+        public Spec border(BorderStyle border) {
+            return borders(border, border, border, border);
+        }
+
+        public Spec borders(BorderStyle top, BorderStyle bottom, BorderStyle left, BorderStyle right) {
+            return new Spec(alignment, verticalAlignment, top, bottom, left, right, fillColor, bold, fontColor, wrapText, dataFormat);
+        }
+
+        public Spec fill(short color) {
+            return new Spec(alignment, verticalAlignment, borderTop, borderBottom, borderLeft, borderRight, color, bold, fontColor, wrapText, dataFormat);
+        }
+
+        public Spec boldFont() {
+            return new Spec(alignment, verticalAlignment, borderTop, borderBottom, borderLeft, borderRight, fillColor, true, fontColor, wrapText, dataFormat);
+        }
+
+        public Spec color(short color) {
+            return new Spec(alignment, verticalAlignment, borderTop, borderBottom, borderLeft, borderRight, fillColor, bold, color, wrapText, dataFormat);
+        }
+
+        public Spec wrap() {
+            return new Spec(alignment, verticalAlignment, borderTop, borderBottom, borderLeft, borderRight, fillColor, bold, fontColor, true, dataFormat);
+        }
+
+        public Spec format(String format) {
+            return new Spec(alignment, verticalAlignment, borderTop, borderBottom, borderLeft, borderRight, fillColor, bold, fontColor, wrapText, format);
+        }
+    }
+
+    // 폰트는 굵기/색만 다르게 사용
+    private record FontKey(boolean bold, Short color) {
+    }
+
+    private final Workbook workbook;
+    private final Map<Spec, CellStyle> styles = new HashMap<>();
+    private final Map<FontKey, Font> fonts = new HashMap<>();
+
+    public StyleRegistry(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    /**
+     * 속성에 해당하는 스타일 (처음 요청할 때만 워크북에 생성)
+     */
+    public CellStyle get(Spec spec) {
+        return styles.computeIfAbsent(spec, this::create);
+    }
+
+    /**
+     * 지금까지 생성한 스타일 수
+     */
+    public int size() {
+        return styles.size();
+    }
+
+    private CellStyle create(Spec spec) {
+        CellStyle style = workbook.createCellStyle();
+        if (spec.bold() || spec.fontColor() != null) {
+            style.setFont(fonts.computeIfAbsent(new FontKey(spec.bold(), spec.fontColor()), this::createFont));
+        }
+        if (spec.fillColor() != null) {
+            style.setFillForegroundColor(spec.fillColor());
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        }
+        if (spec.alignment() != null) style.setAlignment(spec.alignment());
+        if (spec.verticalAlignment() != null) style.setVerticalAlignment(spec.verticalAlignment());
+        if (spec.borderTop() != null) style.setBorderTop(spec.borderTop());
+        if (spec.borderBottom() != null) style.setBorderBottom(spec.borderBottom());
+        if (spec.borderLeft() != null) style.setBorderLeft(spec.borderLeft());
+        if (spec.borderRight() != null) style.setBorderRight(spec.borderRight());
+        if (spec.wrapText()) style.setWrapText(true);
+        if (spec.dataFormat() != null) {
+            style.setDataFormat(workbook.createDataFormat().getFormat(spec.dataFormat()));
+        }
+        return style;
+    }
+
+    private Font createFont(FontKey key) {
+        Font font = workbook.createFont();
+        if (key.bold()) font.setBold(true);
+        if (key.color() != null) font.setColor(key.color());
+        return font;
+    }
+}
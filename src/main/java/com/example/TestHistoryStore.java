@@ -0,0 +1,273 @@
+package com.example;
+
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.project.Project;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트 실행 시간 이력 (실행 단위로 파일 끝에 추가)
+ * 이전 실행들의 중앙값/p95 와 비교하여 실행 시간이 늘어난 테스트(성능 회귀)를 찾는다.
+ *
+ * 파일 형식: [MAGIC][VERSION] 뒤에 실행 블록 반복
+ * 블록: [블록 길이][실행 시각][테스트 수] + 테스트마다 [키][성공 여부][실행 시간(초, float)]
+ * 비교에는 최근 {@link #WINDOW_RUNS} 회 실행만 읽고, 블록이 {@link #MAX_RUNS} 개를 넘으면 오래된 블록을 잘라낸다.
+ */
+public class TestHistoryStore {
+
+    private static final int MAGIC = 0x4E585448; // "NXTH"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    /** 비교 기준으로 사용하는 최근 실행 수 */
+    static final int WINDOW_RUNS = 20;
+    private static final int MAX_RUNS = 200;
+    /** 비교에 필요한 최소 이전 성공 실행 수 */
+    private static final int MIN_SAMPLES = 3;
+    /** p95 비교에 필요한 최소 이전 성공 실행 수 */
+    private static final int MIN_SAMPLES_FOR_P95 = 10;
+    /** 이보다 작은 증가(초)는 측정 오차로 보고 무시 */
+    private static final double MIN_DELTA_SECONDS = 0.05;
+
+    private final Path file;
+
+    /**
+     * 테스트 1건의 실행 결과
+     * @param key "테스트 클래스명#메소드명"
+     */
+    public record RunEntry(String key, boolean success, double seconds) {
+    }
+
+    /**
+     * 성능 회귀로 판정된 테스트
+     * @param median 이전 성공 실행 시간의 중앙값 (초)
+     * @param p95 이전 성공 실행 시간의 95 백분위수 (초)
+     * @param samples 비교에 사용한 이전 실행 수
+     * @param reason 판정 사유
+     */
+    public record Regression(String key, double seconds, double median, double p95, int samples, String reason) {
+
+        /**
+         * 중앙값 대비 증가율 (0.5 = 50% 증가)
+         */
+        public double increaseRatio() {
+            return median > 0 ? seconds / median - 1 : 0;
+        }
+    }
+
+    public TestHistoryStore(Path file) {
+        this.file = file;
+    }
+
+    public static TestHistoryStore forProject(Project project) {
+        return new TestHistoryStore(Paths.get(PathManager.getSystemPath(), "nexgen-guide", project.getLocationHash(), "test-history.bin"));
+    }
+
+    /**
+     * 이번 실행 결과를 이전 이력과 비교한 뒤 이력에 추가
+     * @param thresholdRatio 중앙값 대비 허용 증가율 (0.5 = 50%)
+     * @return 성능 회귀로 판정된 테스트 (증가율 내림차순)
+     */
+    public synchronized List<Regression> analyzeAndAppend(Collection<RunEntry> run, double thresholdRatio) throws IOException {
+        Files.createDirectories(file.getParent());
+        List<Long> blockOffsets = scanBlocks();
+        List<Regression> regressions = analyze(run, readHistory(blockOffsets), thresholdRatio);
+
+        append(run);
+        if (blockOffsets.size() + 1 > MAX_RUNS) {
+            compact();
+        }
+        return regressions;
+    }
+
+    private static List<Regression> analyze(Collection<RunEntry> run, Map<String, float[]> history, double thresholdRatio) {
+        List<Regression> regressions = new ArrayList<>();
+        for (RunEntry entry : run) {
+            if (!entry.success()) continue;
+            float[] previous = history.get(entry.key());
+            if (previous == null || previous.length < MIN_SAMPLES) continue;
+
+            double median = percentile(previous, 0.5);
+            double p95 = percentile(previous, 0.95);
+            if (entry.seconds() - median < MIN_DELTA_SECONDS) continue;
+
+            List<String> reasons = new ArrayList<>(2);
+            if (entry.seconds() > median * (1 + thresholdRatio)) {
+                reasons.add(String.format("중앙값 대비 +%.0f%%", (entry.seconds() / median - 1) * 100));
+            }
+            if (previous.length >= MIN_SAMPLES_FOR_P95 && entry.seconds() > p95) {
+                reasons.add("p95 초과");
+            }
+            if (!reasons.isEmpty()) {
+                regressions.add(new Regression(entry.key(), entry.seconds(), median, p95, previous.length, String.join(", ", reasons)));
+            }
+        }
+        regressions.sort((a, b) -> Double.compare(b.increaseRatio(), a.increaseRatio()));
+        return regressions;
+    }
+
+    // nearest-rank 백분위수 (values 는 정렬됨)
+    private static double percentile(float[] values, double fraction) {
+        int rank = (int) Math.ceil(fraction * values.length);
+        return values[Math.max(0, Math.min(values.length - 1, rank - 1))];
+    }
+
+    /**
+     * 블록 시작 위치 목록 (블록 길이만 읽고 내용은 건너뜀)
+     * 헤더가 다르거나 마지막 블록이 잘린 경우 유효한 부분까지만 남기고 파일을 정리한다.
+     */
+    private List<Long> scanBlocks() throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        if (!Files.exists(file)) {
+            writeHeader();
+            return offsets;
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            long size = raf.length();
+            if (size < HEADER_SIZE || raf.readInt() != MAGIC || raf.readInt() != VERSION) {
+                // 형식이 다른 파일은 새로 시작
+                raf.setLength(0);
+                raf.writeInt(MAGIC);
+                raf.writeInt(VERSION);
+                return offsets;
+            }
+
+            long position = HEADER_SIZE;
+            while (position + Integer.BYTES <= size) {
+                raf.seek(position);
+                int length = raf.readInt();
+                if (length <= 0 || position + Integer.BYTES + length > size) break;
+                offsets.add(position);
+                position += Integer.BYTES + length;
+            }
+            if (position != size) {
+                // 기록 도중 종료된 마지막 블록 제거
+                raf.setLength(position);
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * 최근 실행 블록에서 테스트별 이전 성공 실행 시간 (정렬됨)
+     */
+    private Map<String, float[]> readHistory(List<Long> blockOffsets) throws IOException {
+        if (blockOffsets.isEmpty()) return Map.of();
+        Map<String, ArrayDeque<Float>> durations = new HashMap<>();
+
+        int firstBlock = Math.max(0, blockOffsets.size() - WINDOW_RUNS);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(blockOffsets.get(firstBlock));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            for (int block = firstBlock; block < blockOffsets.size(); block++) {
+                readBlock(in, durations);
+            }
+        }
+
+        Map<String, float[]> sorted = new HashMap<>(durations.size() * 2);
+        for (Map.Entry<String, ArrayDeque<Float>> entry : durations.entrySet()) {
+            float[] values = new float[entry.getValue().size()];
+            int i = 0;
+            for (Float value : entry.getValue()) {
+                values[i++] = value;
+            }
+            Arrays.sort(values);
+            sorted.put(entry.getKey(), values);
+        }
+        return sorted;
+    }
+
+    private static void readBlock(DataInputStream in, Map<String, ArrayDeque<Float>> durations) throws IOException {
+        in.readInt();  // 블록 길이
+        in.readLong(); // 실행 시각
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String key = readString(in);
+            boolean success = in.readBoolean();
+            float seconds = in.readFloat();
+            if (success) {
+                durations.computeIfAbsent(key, k -> new ArrayDeque<>()).add(seconds);
+            }
+        }
+    }
+
+    private void append(Collection<RunEntry> run) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, run.size() * 48));
+        DataOutputStream block = new DataOutputStream(bytes);
+        block.writeLong(System.currentTimeMillis());
+        block.writeInt(run.size());
+        for (RunEntry entry : run) {
+            writeString(block, entry.key());
+            block.writeBoolean(entry.success());
+            block.writeFloat((float) entry.seconds());
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+    }
+
+    /**
+     * 최근 {@link #WINDOW_RUNS} * 2 개 블록만 남기고 파일을 다시 씀
+     */
+    private void compact() throws IOException {
+        List<Long> offsets = scanBlocks();
+        long keepFrom = offsets.get(Math.max(0, offsets.size() - WINDOW_RUNS * 2));
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            target.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip());
+            long position = keepFrom;
+            long size = source.size();
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeHeader() throws IOException {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
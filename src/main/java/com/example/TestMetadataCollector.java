@@ -0,0 +1,182 @@
+package com.example;
+
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
+import com.intellij.psi.search.searches.AnnotatedElementsSearch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트 클래스 메타데이터 수집 (프로젝트 단위)
+ * 테스트 소스 범위에서 @Test(JUnit 4/5), @ParameterizedTest, @RepeatedTest 어노테이션 인덱스로 테스트 파일을 찾고,
+ * 파일별 결과를 수정 스탬프와 함께 저장하여 변경되지 않은 파일은 다시 분석하지 않는다.
+ */
+@Service(Service.Level.PROJECT)
+public final class TestMetadataCollector {
+
+    private static final String[] TEST_ANNOTATIONS = {
+            "org.junit.jupiter.api.Test",
+            "org.junit.jupiter.params.ParameterizedTest",
+            "org.junit.jupiter.api.RepeatedTest",
+            "org.junit.Test"
+    };
+    private static final Pattern TARGET_CALL = Pattern.compile("target\\.(\\w+)\\s*\\(");
+
+    private final Project project;
+    // 파일 경로 -> 파일의 테스트 클래스 메타데이터
+    private final Map<String, FileEntry> fileEntries = new ConcurrentHashMap<>();
+
+    /**
+     * @param className 테스트 클래스명
+     * @param injectMocksClass @InjectMocks 대상 클래스명
+     * @param testMethods 테스트 메소드명 -> 메타데이터
+     */
+    public record TestClassMetadata(String className, String injectMocksClass, Map<String, TestMethodMetadata> testMethods) {
+    }
+
+    /**
+     * @param displayName @DisplayName 값
+     * @param targetMethodName 테스트 메소드가 호출하는 target 메소드명
+     */
+    public record TestMethodMetadata(String methodName, String displayName, String targetMethodName) {
+    }
+
+    private record FileEntry(long stamp, List<TestClassMetadata> classes) {
+    }
+
+    public TestMetadataCollector(Project project) {
+        this.project = project;
+    }
+
+    public static TestMetadataCollector getInstance(Project project) {
+        return project.getService(TestMetadataCollector.class);
+    }
+
+    /**
+     * 테스트 클래스 메타데이터 수집 (smart mode 의 read action 안에서 호출)
+     * @return 테스트 클래스명 -> 메타데이터
+     */
+    public Map<String, TestClassMetadata> collect(ProgressIndicator indicator) {
+        GlobalSearchScope testScope = GlobalSearchScopesCore.projectTestScope(project);
+        GlobalSearchScope librariesScope = GlobalSearchScope.allScope(project);
+
+        // 1. @Test 메소드가 있는 파일 (인덱스 검색, 파일 내용은 읽지 않음)
+        Set<PsiJavaFile> testFiles = new LinkedHashSet<>();
+        for (String annotationFqn : TEST_ANNOTATIONS) {
+            PsiClass annotationClass = JavaPsiFacade.getInstance(project).findClass(annotationFqn, librariesScope);
+            if (annotationClass == null) continue;
+
+            for (PsiMethod method : AnnotatedElementsSearch.searchPsiMethods(annotationClass, testScope).findAll()) {
+                indicator.checkCanceled();
+                if (method.getContainingFile() instanceof PsiJavaFile javaFile) {
+                    testFiles.add(javaFile);
+                }
+            }
+        }
+
+        // 2. 파일별 메타데이터 (수정 스탬프가 같으면 이전 결과 재사용)
+        Map<String, TestClassMetadata> metadata = new HashMap<>();
+        Set<String> livePaths = new LinkedHashSet<>();
+        for (PsiJavaFile javaFile : testFiles) {
+            indicator.checkCanceled();
+            VirtualFile virtualFile = javaFile.getVirtualFile();
+            if (virtualFile == null) continue;
+
+            String path = virtualFile.getPath();
+            livePaths.add(path);
+            FileEntry entry = fileEntries.get(path);
+            if (entry == null || entry.stamp != javaFile.getModificationStamp()) {
+                entry = new FileEntry(javaFile.getModificationStamp(), extractFile(javaFile));
+                fileEntries.put(path, entry);
+            }
+            for (TestClassMetadata classMetadata : entry.classes) {
+                metadata.put(classMetadata.className(), classMetadata);
+            }
+        }
+
+        // 삭제되었거나 더 이상 테스트가 없는 파일 정리
+        fileEntries.keySet().retainAll(livePaths);
+        return metadata;
+    }
+
+    private static List<TestClassMetadata> extractFile(PsiJavaFile javaFile) {
+        List<TestClassMetadata> classes = new ArrayList<>();
+        for (PsiClass psiClass : javaFile.getClasses()) {
+            TestClassMetadata metadata = extractTestClassMetadata(psiClass);
+            if (!metadata.testMethods().isEmpty()) {
+                classes.add(metadata);
+            }
+        }
+        return classes;
+    }
+
+    private static TestClassMetadata extractTestClassMetadata(PsiClass psiClass) {
+        Map<String, TestMethodMetadata> testMethods = new HashMap<>();
+
+        for (PsiMethod method : psiClass.getMethods()) {
+            if (hasTestAnnotation(method)) {
+                testMethods.put(method.getName(), new TestMethodMetadata(
+                        method.getName(),
+                        extractDisplayName(method),
+                        extractCalledApiMethod(method)));
+            }
+        }
+
+        return new TestClassMetadata(psiClass.getName(), findInjectMocksClass(psiClass), Map.copyOf(testMethods));
+    }
+
+    private static boolean hasTestAnnotation(PsiMethod method) {
+        for (PsiAnnotation annotation : method.getAnnotations()) {
+            String annotationName = annotation.getQualifiedName();
+            for (String testAnnotation : TEST_ANNOTATIONS) {
+                if (testAnnotation.equals(annotationName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String findInjectMocksClass(PsiClass psiClass) {
+        for (PsiField field : psiClass.getFields()) {
+            for (PsiAnnotation annotation : field.getAnnotations()) {
+                if ("org.mockito.InjectMocks".equals(annotation.getQualifiedName())) {
+                    return field.getType().getPresentableText();
+                }
+            }
+        }
+        return "";
+    }
+
+    private static String extractDisplayName(PsiMethod method) {
+        PsiAnnotation displayName = method.getAnnotation("org.junit.jupiter.api.DisplayName");
+        return displayName != null ? AnnotationValueReader.read(displayName, "value") : "";
+    }
+
+    private static String extractCalledApiMethod(PsiMethod method) {
+        PsiCodeBlock body = method.getBody();
+        if (body == null) return "";
+
+        Matcher matcher = TARGET_CALL.matcher(body.getText());
+        return matcher.find() ? matcher.group(1) : "";
+    }
+}
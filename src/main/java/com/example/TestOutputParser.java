@@ -0,0 +1,181 @@
+package com.example;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트 프로세스 콘솔 출력 파서 (테스트 러너 이벤트가 없는 실행 구성용 예비 수단)
+ * 출력이 도착하는 대로 줄 단위로 조립하여 바로 파싱하므로 전체 출력을 메모리에 보관하지 않는다.
+ * 최근 줄 몇 개만 링 버퍼로 유지하여 결과 줄의 테스트 클래스명을 찾는 데 사용한다.
+ * 프로세스 출력 스레드(STDOUT/STDERR)에서 동시에 호출될 수 있다.
+ */
+public class TestOutputParser {
+
+    /** 클래스명 탐색에 사용하는 최근 줄 수 */
+    private static final int CONTEXT_LINES = 64;
+    /** 한 줄 최대 길이 (초과분은 버림) */
+    private static final int MAX_LINE_LENGTH = 8192;
+
+    private static final Pattern CLASS_STARTED = Pattern.compile("Test.*started");
+    private static final Pattern CLASS_NAME = Pattern.compile("([\\w\\.]*\\w*Test)");
+    private static final Pattern TEST_RESULT = Pattern.compile("(\\w+).*?(\\d+(?:\\.\\d+)?\\s*(?:ms|s))");
+    private static final Pattern GRADLE_LINE = Pattern.compile("Test.*\\s+(PASSED|FAILED)");
+    private static final Pattern GRADLE_RESULT = Pattern.compile("(\\w+)\\s+(PASSED|FAILED)");
+    private static final Pattern NON_NUMERIC = Pattern.compile("[^0-9.]");
+
+    /**
+     * 파싱된 테스트 결과
+     * @param executionSeconds 실행 시간 (초)
+     */
+    public record ParsedResult(String className, String testName, boolean success, double executionSeconds, String errorMessage) {
+    }
+
+    // 출력 종류(STDOUT/STDERR)별로 아직 줄바꿈이 오지 않은 부분
+    private final Map<Object, StringBuilder> partialLines = new HashMap<>();
+    private final ArrayDeque<String> recentLines = new ArrayDeque<>(CONTEXT_LINES);
+    private final Map<String, ParsedResult> results = new LinkedHashMap<>();
+    private String currentClassName = "";
+    private String firstClassName;
+
+    /**
+     * 출력 조각 추가 (완성된 줄은 바로 파싱)
+     * @param stream 출력 종류 (서로 다른 스트림의 조각이 한 줄로 섞이지 않도록 구분)
+     */
+    public synchronized void append(Object stream, String text) {
+        StringBuilder partial = partialLines.computeIfAbsent(stream, key -> new StringBuilder());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                parseLine(partial);
+                partial.setLength(0);
+            } else if (c != '\r' && partial.length() < MAX_LINE_LENGTH) {
+                partial.append(c);
+            }
+        }
+    }
+
+    /**
+     * 프로세스 종료 시 줄바꿈 없이 끝난 마지막 줄까지 파싱
+     */
+    public synchronized void flush() {
+        for (StringBuilder partial : partialLines.values()) {
+            if (partial.length() > 0) {
+                parseLine(partial);
+                partial.setLength(0);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 파싱된 결과 ("클래스명#메소드명" -> 결과)
+     */
+    public synchronized Map<String, ParsedResult> results() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(results));
+    }
+
+    private void parseLine(CharSequence rawLine) {
+        String line = rawLine.toString().trim();
+        if (line.isEmpty()) return;
+
+        String lineClassName = findClassName(line);
+        if (firstClassName == null && lineClassName != null) {
+            firstClassName = lineClassName;
+        }
+
+        // 테스트 클래스 시작 패턴
+        if (CLASS_STARTED.matcher(line).find() || line.contains("Test class")) {
+            currentClassName = lineClassName != null ? lineClassName : "";
+        }
+
+        // JUnit 5 테스트 결과 패턴
+        if (line.contains("✓") || line.contains("SUCCESSFUL")) {
+            parseTestResult(line, true);
+        } else if (line.contains("✗") || line.contains("FAILED") || line.contains("ERROR")) {
+            parseTestResult(line, false);
+        }
+
+        // Gradle/Maven 출력 패턴
+        if (GRADLE_LINE.matcher(line).find()) {
+            parseGradleTestResult(line, lineClassName);
+        }
+
+        if (recentLines.size() == CONTEXT_LINES) {
+            recentLines.removeFirst();
+        }
+        recentLines.addLast(line);
+    }
+
+    private void parseTestResult(String line, boolean success) {
+        // 메소드명과 시간 추출
+        Matcher matcher = TEST_RESULT.matcher(line);
+        if (matcher.find()) {
+            String methodName = matcher.group(1);
+            double executionSeconds = parseExecutionTime(matcher.group(2));
+            String errorMessage = success ? "" : extractErrorMessage(line);
+            put(new ParsedResult(currentClassName, methodName, success, executionSeconds, errorMessage));
+        }
+    }
+
+    private void parseGradleTestResult(String line, String lineClassName) {
+        Matcher matcher = GRADLE_RESULT.matcher(line);
+        if (matcher.find()) {
+            String methodName = matcher.group(1);
+            boolean success = "PASSED".equals(matcher.group(2));
+            String className = lineClassName != null ? lineClassName : recentClassName();
+            put(new ParsedResult(className, methodName, success, 0.0, success ? "" : "Test failed"));
+        }
+    }
+
+    private void put(ParsedResult result) {
+        results.put(result.className() + "#" + result.testName(), result);
+    }
+
+    /**
+     * 최근 줄에서 가장 가까운 테스트 클래스명 (없으면 출력에서 처음 나온 클래스명)
+     */
+    private String recentClassName() {
+        var iterator = recentLines.descendingIterator();
+        while (iterator.hasNext()) {
+            String className = findClassName(iterator.next());
+            if (className != null) return className;
+        }
+        return firstClassName != null ? firstClassName : "UnknownTestClass";
+    }
+
+    private static String findClassName(String line) {
+        if (!line.contains("Test")) return null;
+        Matcher matcher = CLASS_NAME.matcher(line);
+        if (matcher.find()) {
+            String fullClassName = matcher.group(1);
+            return fullClassName.substring(fullClassName.lastIndexOf('.') + 1);
+        }
+        return null;
+    }
+
+    private static double parseExecutionTime(String timeStr) {
+        String number = NON_NUMERIC.matcher(timeStr).replaceAll("");
+        try {
+            double value = Double.parseDouble(number);
+            return timeStr.contains("ms") ? value / 1000.0 : value;
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    private static String extractErrorMessage(String line) {
+        if (line.contains("AssertionError")) {
+            return "AssertionError";
+        } else if (line.contains("Exception")) {
+            int idx = line.indexOf("Exception");
+            return line.substring(Math.max(0, idx - 20), Math.min(line.length(), idx + 30));
+        } else if (line.contains("Error")) {
+            return "Error occurred";
+        }
+        return "Test failed";
+    }
+}
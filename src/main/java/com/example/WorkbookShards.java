@@ -0,0 +1,327 @@
+package com.example;
+
+import org.apache.poi.common.usermodel.HyperlinkType;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 가이드 워크북 분할(샤딩)
+ * 큰 워크북 1개 대신 구분 키(클래스/패키지)와 최대 메소드 수 기준으로 나눈 여러 워크북과,
+ * 각 워크북으로 연결되는 작은 목차 워크북을 만든다.
+ *
+ * - 샤드 파일: 목차 파일과 같은 폴더에 "<목차 이름>_<번호>_<구분 키>.xlsx"
+ * - 샤드 워크북은 {@link Writer} 로 여러 스레드에서 동시에 렌더링/저장 (워크북끼리 공유하는 상태 없음)
+ * - 하나라도 실패하거나 취소되면 작성한 샤드 파일을 모두 삭제
+ */
+public final class WorkbookShards {
+
+    /** 파일 이름에 넣는 구분 키 최대 길이 */
+    private static final int MAX_KEY_LENGTH = 60;
+
+    /** 작성 대기 중 취소 여부를 확인하는 주기 */
+    private static final long CANCEL_CHECK_MILLIS = 50;
+
+    private static final String INDEX_SHEET_NAME = "목차";
+
+    private static final String[] INDEX_HEADERS = {
+            "No", "파일", "구분", "메소드 수", "첫 메소드", "마지막 메소드"
+    };
+
+    /** 목차 컬럼 너비 (문자 수) */
+    private static final int[] INDEX_COLUMN_WIDTHS = {
+            6, 50, 40, 12, 40, 40
+    };
+
+    /**
+     * 샤드 1개 (번호는 1부터)
+     * @param key 구분 키 (크기로만 나눈 경우 빈 문자열)
+     */
+    public record Shard<T>(int number, String key, List<T> items) {
+
+        public Shard {
+            items = List.copyOf(items);
+        }
+    }
+
+    /**
+     * 목차 워크북의 행 1개 (샤드 파일 1개)
+     */
+    public record Entry(File file, String key, int methodCount, String firstMethod, String lastMethod) {
+    }
+
+    /**
+     * 샤드 파일 작성 작업
+     */
+    public interface FileTask {
+        void write(File file) throws IOException;
+    }
+
+    private WorkbookShards() {
+    }
+
+    /**
+     * 항목을 구분 키별로 묶고(처음 나온 순서 유지), 묶음이 maxItemsPerShard 를 넘으면 다시 나눔
+     * @param keyOf 항목의 구분 키 (null 은 빈 문자열로 취급)
+     * @param maxItemsPerShard 샤드 1개의 최대 항목 수 (1 미만이면 1)
+     */
+    public static <T> List<Shard<T>> plan(List<T> items, Function<T, String> keyOf, int maxItemsPerShard) {
+        int limit = Math.max(1, maxItemsPerShard);
+        Map<String, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            String key = keyOf.apply(item);
+            groups.computeIfAbsent(key != null ? key : "", k -> new ArrayList<>()).add(item);
+        }
+
+        List<Shard<T>> shards = new ArrayList<>();
+        for (Map.Entry<String, List<T>> group : groups.entrySet()) {
+            List<T> groupItems = group.getValue();
+            for (int from = 0; from < groupItems.size(); from += limit) {
+                List<T> slice = groupItems.subList(from, Math.min(from + limit, groupItems.size()));
+                shards.add(new Shard<>(shards.size() + 1, group.getKey(), slice));
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * 샤드 파일 경로 (목차 파일과 같은 폴더, 번호는 샤드 수에 맞춰 0으로 채움)
+     */
+    public static File shardFile(File indexFile, Shard<?> shard, int shardCount) {
+        String name = indexFile.getName();
+        String baseName = name.toLowerCase().endsWith(".xlsx") ? name.substring(0, name.length() - 5) : name;
+        int digits = Math.max(2, String.valueOf(shardCount).length());
+
+        StringBuilder fileName = new StringBuilder(baseName)
+                .append('_')
+                .append(String.format("%0" + digits + "d", shard.number()));
+        String key = fileNameKey(shard.key());
+        if (!key.isEmpty()) {
+            fileName.append('_').append(key);
+        }
+        return new File(indexFile.getAbsoluteFile().getParentFile(), fileName.append(".xlsx").toString());
+    }
+
+    // 파일 이름에 쓸 수 없는 문자는 '_' 로 바꾸고 길이 제한 (번호가 붙으므로 잘려도 이름이 겹치지 않음)
+    private static String fileNameKey(String key) {
+        String safe = key.replaceAll("[^A-Za-z0-9._-]", "_");
+        return safe.length() > MAX_KEY_LENGTH ? safe.substring(0, MAX_KEY_LENGTH) : safe;
+    }
+
+    /**
+     * 목차 워크북 작성 (샤드 파일마다 행 1개, 파일 이름 셀은 해당 파일로 연결)
+     */
+    public static void writeIndex(File indexFile, List<Entry> entries) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            StyleRegistry styles = new StyleRegistry(workbook);
+            StyleRegistry.Spec bordered = StyleRegistry.Spec.PLAIN.border(BorderStyle.THIN);
+            CellStyle headerStyle = styles.get(bordered.boldFont()
+                    .fill(IndexedColors.GREY_25_PERCENT.getIndex())
+                    .align(HorizontalAlignment.CENTER, VerticalAlignment.CENTER));
+            CellStyle dataStyle = styles.get(bordered.align(HorizontalAlignment.LEFT, VerticalAlignment.CENTER));
+            CellStyle numberStyle = styles.get(bordered.align(HorizontalAlignment.RIGHT, VerticalAlignment.CENTER));
+            CellStyle linkStyle = styles.get(bordered.align(HorizontalAlignment.LEFT, VerticalAlignment.CENTER)
+                    .color(IndexedColors.BLUE.getIndex()));
+
+            Sheet sheet = workbook.createSheet(INDEX_SHEET_NAME);
+            for (int i = 0; i < INDEX_COLUMN_WIDTHS.length; i++) {
+                sheet.setColumnWidth(i, INDEX_COLUMN_WIDTHS[i] * 256);
+            }
+            sheet.createFreezePane(0, 1);
+
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < INDEX_HEADERS.length; i++) {
+                setCell(header, i, INDEX_HEADERS[i], headerStyle);
+            }
+
+            int rowNum = 1;
+            int total = 0;
+            for (Entry entry : entries) {
+                Row row = sheet.createRow(rowNum);
+                setNumber(row, 0, rowNum, numberStyle);
+                Cell fileCell = setCell(row, 1, entry.file().getName(), linkStyle);
+                // 목차와 같은 폴더에 있으므로 상대 경로(파일 이름)로 연결
+                Hyperlink link = workbook.getCreationHelper().createHyperlink(HyperlinkType.FILE);
+                link.setAddress(entry.file().getName());
+                fileCell.setHyperlink(link);
+                setCell(row, 2, entry.key(), dataStyle);
+                setNumber(row, 3, entry.methodCount(), numberStyle);
+                setCell(row, 4, entry.firstMethod(), dataStyle);
+                setCell(row, 5, entry.lastMethod(), dataStyle);
+                total += entry.methodCount();
+                rowNum++;
+            }
+
+            Row totalRow = sheet.createRow(rowNum);
+            setCell(totalRow, 0, "합계", headerStyle);
+            setCell(totalRow, 1, entries.size() + "개 파일", dataStyle);
+            setCell(totalRow, 2, "", dataStyle);
+            setNumber(totalRow, 3, total, numberStyle);
+
+            try (FileOutputStream fos = new FileOutputStream(indexFile)) {
+                workbook.write(fos);
+            }
+        }
+    }
+
+    private static Cell setCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        if (value != null && !value.isEmpty()) {
+            cell.setCellValue(value);
+        }
+        cell.setCellStyle(style);
+        return cell;
+    }
+
+    private static void setNumber(Row row, int column, int value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(style);
+    }
+
+    /**
+     * 샤드 파일을 여러 스레드에서 동시에 작성
+     * 작업은 제출하는 즉시 시작되므로, 호출 스레드는 다음 샤드를 준비(추출)하면서 앞 샤드의 렌더링/저장과 겹쳐 진행할 수 있다.
+     * 끝나지 않은 작업이 maxPending 개이면 하나가 끝날 때까지 제출을 대기한다. (준비된 샤드가 메모리에 쌓이지 않도록)
+     * {@link #complete()} 전에 닫히면(실패/취소) 시작하지 않은 작업은 건너뛰고 작성한 파일은 모두 삭제한다.
+     */
+    public static final class Writer implements AutoCloseable {
+
+        private final ExecutorService executor;
+        private final List<Future<?>> futures = new ArrayList<>();
+        private final List<File> files = new ArrayList<>();
+        private final Semaphore pending;
+        private final AtomicBoolean aborted = new AtomicBoolean();
+        private boolean completed;
+
+        /**
+         * @param executor 샤드 작성 스레드 (닫을 때 종료)
+         * @param maxPending 동시에 제출되어 있을 수 있는 작업 수 (1 미만이면 1)
+         */
+        public Writer(ExecutorService executor, int maxPending) {
+            this.executor = executor;
+            this.pending = new Semaphore(Math.max(1, maxPending));
+        }
+
+        /**
+         * 작업 제출 (끝나지 않은 작업이 maxPending 개이면 하나가 끝날 때까지 대기)
+         * @param checkCanceled 대기 중 주기적으로 호출되는 취소 확인 (취소 시 예외를 던짐)
+         */
+        public void submit(File file, FileTask task, Runnable checkCanceled) throws IOException {
+            acquire(checkCanceled);
+            files.add(file);
+            try {
+                futures.add(executor.submit(() -> {
+                    try {
+                        if (aborted.get()) return null;
+                        boolean written = false;
+                        try {
+                            task.write(file);
+                            written = true;
+                        } finally {
+                            // 자기 작업이 실패했거나, 작성 중에 전체 작업이 중단된 경우 직접 정리
+                            if (!written || aborted.get()) {
+                                file.delete();
+                            }
+                        }
+                        return null;
+                    } finally {
+                        pending.release();
+                    }
+                }));
+            } catch (RuntimeException | Error e) {
+                pending.release();
+                throw e;
+            }
+        }
+
+        private void acquire(Runnable checkCanceled) throws IOException {
+            while (true) {
+                checkCanceled.run();
+                try {
+                    if (pending.tryAcquire(CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS)) return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("샤드 작성 대기 중 중단되었습니다.");
+                }
+            }
+        }
+
+        /**
+         * 제출한 작업이 모두 끝날 때까지 대기 (첫 번째 실패를 다시 던짐)
+         * @param checkCanceled 대기 중 주기적으로 호출되는 취소 확인 (취소 시 예외를 던짐)
+         */
+        public void awaitAll(Runnable checkCanceled) throws IOException {
+            for (Future<?> future : futures) {
+                await(future, checkCanceled);
+            }
+        }
+
+        /**
+         * 생성(목차 포함)이 모두 끝났음을 표시 (닫을 때 샤드 파일을 삭제하지 않음)
+         */
+        public void complete() {
+            completed = true;
+        }
+
+        private static void await(Future<?> future, Runnable checkCanceled) throws IOException {
+            while (true) {
+                checkCanceled.run();
+                try {
+                    future.get(CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    // 취소 여부 다시 확인
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("샤드 작성 대기 중 중단되었습니다.");
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException) throw (IOException) cause;
+                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                    if (cause instanceof Error) throw (Error) cause;
+                    throw new IOException(cause);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!completed) {
+                aborted.set(true);
+                for (Future<?> future : futures) {
+                    future.cancel(false);
+                }
+                // 작성 중인 작업은 끝날 때 스스로 삭제
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            executor.shutdown();
+        }
+    }
+}